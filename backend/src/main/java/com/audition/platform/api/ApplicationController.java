@@ -2,18 +2,34 @@ package com.audition.platform.api;
 
 import com.audition.platform.api.dto.ApplicationResponse;
 import com.audition.platform.api.dto.ApplicationDecisionRequest;
+import com.audition.platform.api.dto.BulkDecisionRequest;
+import com.audition.platform.api.dto.BulkDecisionResponse;
+import com.audition.platform.api.dto.CursorPage;
 import com.audition.platform.api.dto.UpdateApplicationStatusRequest;
+import com.audition.platform.application.ApplicationExporter;
 import com.audition.platform.application.ApplicationService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api")
 public class ApplicationController {
 
+    private static final int EXPORT_BUFFER_BYTES = 64 * 1024;
+
     private final ApplicationService applicationService;
 
     public ApplicationController(ApplicationService applicationService) {
@@ -21,23 +37,68 @@ public class ApplicationController {
     }
 
     @PostMapping("/auditions/{auditionId}/apply")
+    @ResponseStatus(HttpStatus.CREATED)
     public ApplicationResponse apply(@PathVariable UUID auditionId) {
         return applicationService.apply(auditionId);
     }
 
     @GetMapping("/applications/my")
-    public List<ApplicationResponse> listMyApplications() {
-        return applicationService.listMyApplications();
+    public ResponseEntity<List<ApplicationResponse>> listMyApplications(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "status", required = false) String status) {
+        CursorPage<ApplicationResponse> page = applicationService.listMyApplications(cursor, limit, status);
+        return PageResponses.of(page, ResponseVersion.ofApplications(page.getItems()));
     }
 
     @GetMapping("/applications/me")
-    public List<ApplicationResponse> listMyApplicationsLegacy() {
-        return applicationService.listMyApplications();
+    public ResponseEntity<List<ApplicationResponse>> listMyApplicationsLegacy(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "status", required = false) String status) {
+        CursorPage<ApplicationResponse> page = applicationService.listMyApplications(cursor, limit, status);
+        return PageResponses.of(page, ResponseVersion.ofApplications(page.getItems()));
     }
 
     @GetMapping("/auditions/{auditionId}/applications")
-    public List<ApplicationResponse> listApplications(@PathVariable UUID auditionId) {
-        return applicationService.listByAudition(auditionId);
+    public ResponseEntity<List<ApplicationResponse>> listApplications(
+            @PathVariable UUID auditionId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "status", required = false) String status) {
+        CursorPage<ApplicationResponse> page = applicationService.listByAudition(auditionId, cursor, limit, status);
+        return PageResponses.of(page, ResponseVersion.ofApplications(page.getItems()));
+    }
+
+    /**
+     * Streams all applications of an audition as NDJSON (default) or CSV ({@code format=csv} or
+     * {@code Accept: text/csv}), gzip-compressed when the client accepts it.
+     */
+    @GetMapping("/auditions/{auditionId}/applications/export")
+    public void exportApplications(@PathVariable UUID auditionId,
+                                   @RequestParam(value = "format", required = false) String format,
+                                   @RequestParam(value = "status", required = false) String status,
+                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                   @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                   HttpServletResponse response) throws IOException {
+        ApplicationExporter.Format exportFormat = ApplicationExporter.Format.resolve(format, accept);
+        if (exportFormat == null) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "format must be ndjson or csv");
+        }
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        applicationService.exportByAudition(auditionId, status, exportFormat, () -> {
+            response.setContentType(exportFormat.contentType() + ";charset=UTF-8");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename("applications-" + auditionId + "." + exportFormat.extension())
+                    .build().toString());
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                // syncFlush so every chunk flush pushes compressed bytes to the client
+                return new GZIPOutputStream(response.getOutputStream(), EXPORT_BUFFER_BYTES, true);
+            }
+            return new BufferedOutputStream(response.getOutputStream(), EXPORT_BUFFER_BYTES);
+        });
     }
 
     @PostMapping("/applications/{id}/decision")
@@ -45,17 +106,27 @@ public class ApplicationController {
         return applicationService.decide(id, request.getStatus());
     }
 
+    /** Accepts/rejects up to {@link BulkDecisionRequest#MAX_DECISIONS} applications of one audition at once. */
+    @PostMapping("/auditions/{auditionId}/applications/decisions")
+    public BulkDecisionResponse decideAll(@PathVariable UUID auditionId, @Valid @RequestBody BulkDecisionRequest request) {
+        return applicationService.decideAll(auditionId, request.getDecisions());
+    }
+
     @PostMapping("/applications/{id}/mark-reviewed")
     public ApplicationResponse markReviewed(@PathVariable UUID id) {
         return applicationService.markReviewed(id);
     }
 
+    /** With {@code If-Match} the change only applies if the application is unchanged since that ETag. */
     @PatchMapping("/applications/{id}/status")
-    public ApplicationResponse updateStatusLegacy(@PathVariable UUID id, @Valid @RequestBody UpdateApplicationStatusRequest request) {
-        if ("REVIEWED".equals(request.getStatus())) {
-            return applicationService.markReviewed(id);
-        }
-        return applicationService.decide(id, request.getStatus());
+    public ResponseEntity<ApplicationResponse> updateStatusLegacy(@PathVariable UUID id,
+                                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                  @Valid @RequestBody UpdateApplicationStatusRequest request) {
+        Long expectedVersion = ResponseVersion.expectedVersion(ifMatch);
+        ApplicationResponse application = "REVIEWED".equals(request.getStatus())
+                ? applicationService.markReviewed(id, expectedVersion)
+                : applicationService.decide(id, request.getStatus(), expectedVersion);
+        return ResponseVersion.ok(ResponseVersion.of(application), application.getUpdatedAt(), application);
     }
 
     @PostMapping("/applications/{id}/accept")
@@ -69,7 +140,8 @@ public class ApplicationController {
     }
 
     @GetMapping("/applications/{id}")
-    public ApplicationResponse getById(@PathVariable UUID id) {
-        return applicationService.getApplicationForApplicantOrOwner(id);
+    public ResponseEntity<ApplicationResponse> getById(@PathVariable UUID id) {
+        ApplicationResponse application = applicationService.getApplicationForApplicantOrOwner(id);
+        return ResponseVersion.ok(ResponseVersion.of(application), application.getUpdatedAt(), application);
     }
 }
@@ -1,14 +1,18 @@
 package com.audition.platform.api;
 
+import com.audition.platform.api.dto.AuditionFilter;
 import com.audition.platform.api.dto.AuditionResponse;
+import com.audition.platform.api.dto.AuditionSearchResponse;
 import com.audition.platform.api.dto.CreateAuditionRequest;
+import com.audition.platform.api.dto.CursorPage;
 import com.audition.platform.api.dto.UpdateAuditionRequest;
 import com.audition.platform.application.AuditionService;
-import com.audition.platform.infra.SecurityUtils;
+import com.audition.platform.application.OpenAuditionSnapshot;
 import jakarta.validation.Valid;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.UUID;
@@ -18,9 +22,11 @@ import java.util.UUID;
 public class AuditionController {
 
     private final AuditionService auditionService;
+    private final OpenAuditionSnapshot openAuditionSnapshot;
 
-    public AuditionController(AuditionService auditionService) {
+    public AuditionController(AuditionService auditionService, OpenAuditionSnapshot openAuditionSnapshot) {
         this.auditionService = auditionService;
+        this.openAuditionSnapshot = openAuditionSnapshot;
     }
 
     @PostMapping
@@ -29,34 +35,55 @@ public class AuditionController {
     }
 
     @GetMapping
-    public List<AuditionResponse> list(@RequestParam(value = "status", required = false) String status) {
-        if (status == null || status.isBlank() || "OPEN".equals(status)) {
-            return auditionService.listOpen();
+    public ResponseEntity<?> list(AuditionFilter filter) {
+        String status = filter.getStatus();
+        if (filter.isUnfiltered() && OpenAuditionSnapshot.coversLimit(filter.getLimit())
+                && (status == null || status.isBlank() || "OPEN".equals(status))) {
+            // Hot path: the first OPEN page is served from pre-serialized bytes.
+            OpenAuditionSnapshot.Payload payload = openAuditionSnapshot.payload();
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(payload.etag())
+                    .cacheControl(ResponseVersion.REVALIDATE);
+            if (payload.nextCursor() != null) {
+                response.header(PageResponses.NEXT_CURSOR_HEADER, payload.nextCursor());
+            }
+            return response.body(payload.json());
         }
-        if (!SecurityUtils.hasRole("AGENCY") && !SecurityUtils.hasRole("ADMIN")) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only AGENCY or ADMIN can query non-open auditions");
-        }
-        return auditionService.listByStatus(status);
+        CursorPage<AuditionResponse> page = auditionService.query(filter);
+        return PageResponses.of(page, ResponseVersion.ofAuditions(page.getItems()));
     }
 
     @GetMapping("/my")
-    public List<AuditionResponse> listMy() {
-        return auditionService.listMine();
+    public ResponseEntity<List<AuditionResponse>> listMy(AuditionFilter filter) {
+        CursorPage<AuditionResponse> page = auditionService.queryMine(filter);
+        return PageResponses.of(page, ResponseVersion.ofAuditions(page.getItems()));
     }
 
     @GetMapping("/mine")
-    public List<AuditionResponse> listMineLegacy() {
-        return auditionService.listMine();
+    public ResponseEntity<List<AuditionResponse>> listMineLegacy(AuditionFilter filter) {
+        return listMy(filter);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<AuditionSearchResponse>> search(@RequestParam(value = "q", required = false) String q, AuditionFilter filter) {
+        CursorPage<AuditionSearchResponse> page = auditionService.search(q, filter);
+        return PageResponses.of(page, ResponseVersion.ofAuditions(page.getItems()));
     }
 
     @GetMapping("/{id}")
-    public AuditionResponse getById(@PathVariable UUID id) {
-        return auditionService.getById(id);
+    public ResponseEntity<AuditionResponse> getById(@PathVariable UUID id) {
+        AuditionResponse audition = auditionService.getById(id);
+        return ResponseVersion.ok(ResponseVersion.of(audition), audition.getUpdatedAt(), audition);
     }
 
+    /** Partial update; with {@code If-Match} it only applies if the audition is unchanged since that ETag. */
     @PatchMapping("/{id}")
-    public AuditionResponse update(@PathVariable UUID id, @Valid @RequestBody UpdateAuditionRequest request) {
-        return auditionService.update(id, request);
+    public ResponseEntity<AuditionResponse> update(@PathVariable UUID id,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                   @Valid @RequestBody UpdateAuditionRequest request) {
+        AuditionResponse audition = auditionService.update(id, request, ResponseVersion.expectedVersion(ifMatch));
+        return ResponseVersion.ok(ResponseVersion.of(audition), audition.getUpdatedAt(), audition);
     }
 
     @DeleteMapping("/{id}")
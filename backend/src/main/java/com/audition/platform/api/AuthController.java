@@ -3,6 +3,7 @@ package com.audition.platform.api;
 import com.audition.platform.api.dto.AuthResponse;
 import com.audition.platform.api.dto.AuthMeResponse;
 import com.audition.platform.api.dto.LoginRequest;
+import com.audition.platform.api.dto.RefreshTokenRequest;
 import com.audition.platform.api.dto.SignupRequest;
 import com.audition.platform.application.AuthService;
 import jakarta.validation.Valid;
@@ -28,6 +29,16 @@ public class AuthController {
         return authService.login(request);
     }
 
+    @PostMapping("/refresh")
+    public AuthResponse refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return authService.refresh(request);
+    }
+
+    @PostMapping("/logout")
+    public void logout(@Valid @RequestBody RefreshTokenRequest request) {
+        authService.logout(request);
+    }
+
     @GetMapping("/me")
     public AuthMeResponse me() {
         return authService.me();
@@ -3,6 +3,7 @@ package com.audition.platform.api;
 import com.audition.platform.api.dto.AgencyDashboardResponse;
 import com.audition.platform.api.dto.ApplicantDashboardResponse;
 import com.audition.platform.application.DashboardService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -17,12 +18,14 @@ public class DashboardController {
     }
 
     @GetMapping("/agency")
-    public AgencyDashboardResponse agency() {
-        return dashboardService.getAgencyDashboard();
+    public ResponseEntity<AgencyDashboardResponse> agency() {
+        AgencyDashboardResponse dashboard = dashboardService.getAgencyDashboard();
+        return ResponseVersion.ok(ResponseVersion.of(dashboard), dashboard);
     }
 
     @GetMapping("/applicant")
-    public ApplicantDashboardResponse applicant() {
-        return dashboardService.getApplicantDashboard();
+    public ResponseEntity<ApplicantDashboardResponse> applicant() {
+        ApplicantDashboardResponse dashboard = dashboardService.getApplicantDashboard();
+        return ResponseVersion.ok(ResponseVersion.of(dashboard), dashboard);
     }
 }
@@ -0,0 +1,40 @@
+package com.audition.platform.api;
+
+import com.audition.platform.infra.AuthPrincipal;
+import com.audition.platform.infra.JwtService;
+import com.audition.platform.infra.SecurityUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+
+/** Read-only view of the signing keys; rotation is a config rollout (see {@link com.audition.platform.infra.JwtKeyring}). */
+@RestController
+@RequestMapping("/api/admin/jwt-keys")
+public class JwtKeyAdminController {
+
+    private final JwtService jwtService;
+
+    public JwtKeyAdminController(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+
+    @GetMapping
+    public Map<String, Object> list() {
+        requireAdmin();
+        return Map.of(
+            "activeKid", jwtService.getActiveKeyId(),
+            "kids", jwtService.getKeyIds()
+        );
+    }
+
+    private static void requireAdmin() {
+        AuthPrincipal principal = SecurityUtils.getCurrentPrincipal();
+        if (principal == null || !principal.isAdmin()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only ADMIN can view signing keys");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.audition.platform.api;
+
+import com.audition.platform.api.dto.CursorPage;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+final class PageResponses {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private PageResponses() {
+    }
+
+    // Body stays a plain array for existing clients; the next page is advertised in a header.
+    // The ETag aggregates the page items and its cursor.
+    static <T> ResponseEntity<List<T>> of(CursorPage<T> page, ResponseVersion version) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(version.add(page.getNextCursor()).etag())
+                .cacheControl(ResponseVersion.REVALIDATE);
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+}
@@ -0,0 +1,182 @@
+package com.audition.platform.api;
+
+import com.audition.platform.api.dto.AgencyDashboardResponse;
+import com.audition.platform.api.dto.ApplicantDashboardResponse;
+import com.audition.platform.api.dto.ApplicationResponse;
+import com.audition.platform.api.dto.AuditionResponse;
+import com.audition.platform.infra.ETags;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Strong ETag digested from the version-bearing fields of a response (ids, {@code updated_at}, joined
+ * labels, counters) rather than from the serialized body. Conditional GETs are answered by Spring MVC:
+ * a matching {@code If-None-Match} / {@code If-Modified-Since} turns the {@link ResponseEntity} into a
+ * bodiless 304 before Jackson runs.
+ */
+final class ResponseVersion {
+
+    // Let browsers keep the body but revalidate on every poll; per-user data must not hit shared caches.
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final MessageDigest digest;
+    private final ByteBuffer scratch = ByteBuffer.allocate(Long.BYTES * 2);
+    private Long entityVersion;
+
+    private ResponseVersion() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static ResponseVersion start() {
+        return new ResponseVersion();
+    }
+
+    static ResponseVersion of(AuditionResponse audition) {
+        ResponseVersion v = start().add(audition);
+        v.entityVersion = audition.getVersion();
+        return v;
+    }
+
+    static ResponseVersion of(ApplicationResponse application) {
+        ResponseVersion v = start().add(application);
+        v.entityVersion = application.getVersion();
+        return v;
+    }
+
+    static ResponseVersion ofAuditions(Collection<? extends AuditionResponse> auditions) {
+        ResponseVersion v = start().add(auditions.size());
+        auditions.forEach(v::add);
+        return v;
+    }
+
+    static ResponseVersion ofApplications(Collection<ApplicationResponse> applications) {
+        ResponseVersion v = start().add(applications.size());
+        applications.forEach(v::add);
+        return v;
+    }
+
+    static ResponseVersion of(AgencyDashboardResponse d) {
+        ResponseVersion v = start()
+                .add(d.getTotalAuditions()).add(d.getOpenAuditions()).add(d.getTotalApplications())
+                .add(d.getAccepted()).add(d.getRejected()).add(d.getPending());
+        v.add(d.getRecentAuditions().size());
+        d.getRecentAuditions().forEach(v::add);
+        v.add(d.getRecentApplications().size());
+        d.getRecentApplications().forEach(v::add);
+        return v;
+    }
+
+    static ResponseVersion of(ApplicantDashboardResponse d) {
+        ResponseVersion v = start()
+                .add(d.getApplied()).add(d.getReviewed()).add(d.getAccepted()).add(d.getRejected())
+                .add(d.getVideosCount());
+        v.add(d.getRecentApplications().size());
+        d.getRecentApplications().forEach(v::add);
+        return v;
+    }
+
+    ResponseVersion add(AuditionResponse a) {
+        return add(a.getId()).add(a.getUpdatedAt());
+    }
+
+    // Joined columns are included: renaming an audition does not touch the application's updated_at.
+    ResponseVersion add(ApplicationResponse a) {
+        return add(a.getId()).add(a.getUpdatedAt()).add(a.getStatus())
+                .add(a.getApplicantEmail()).add(a.getAuditionTitle());
+    }
+
+    ResponseVersion add(UUID id) {
+        if (id == null) {
+            return add(0L);
+        }
+        scratch.clear();
+        scratch.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+        digest.update(scratch.array(), 0, scratch.position());
+        return this;
+    }
+
+    ResponseVersion add(Instant instant) {
+        if (instant == null) {
+            return add(0L);
+        }
+        scratch.clear();
+        scratch.putLong(instant.getEpochSecond()).putLong(instant.getNano());
+        digest.update(scratch.array(), 0, scratch.position());
+        return this;
+    }
+
+    ResponseVersion add(String value) {
+        if (value == null) {
+            return add(-1L);
+        }
+        add(value.length());
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        return this;
+    }
+
+    ResponseVersion add(long value) {
+        scratch.clear();
+        scratch.putLong(value);
+        digest.update(scratch.array(), 0, scratch.position());
+        return this;
+    }
+
+    /**
+     * Single resources carry their row version as the tag prefix ({@code "<version>.<digest>"}) so that
+     * {@link #expectedVersion(String)} can turn an {@code If-Match} into a version check on the UPDATE.
+     */
+    String etag() {
+        String tag = ETags.fromDigest(digest.digest());
+        return entityVersion == null ? tag : "\"" + entityVersion + "." + tag.substring(1);
+    }
+
+    /**
+     * Row version required by an {@code If-Match} header, or null when the header is absent or {@code *}.
+     * Weak or foreign tags can never match a strong versioned tag, so they fail the precondition.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        int dot = tag.indexOf('.');
+        if (tag.startsWith("\"") && dot > 1 && tag.indexOf(',') < 0) {
+            try {
+                return Long.parseLong(tag.substring(1, dot));
+            } catch (NumberFormatException e) {
+                // fall through
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "If-Match does not match the current version");
+    }
+
+    /**
+     * Single resources also carry {@code Last-Modified}. Lists and dashboards only get the aggregate ETag:
+     * an item leaving a list does not move any remaining {@code updated_at}, so a date alone would be wrong.
+     */
+    static <T> ResponseEntity<T> ok(ResponseVersion version, Instant lastModified, T body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(version.etag()).cacheControl(REVALIDATE);
+        if (lastModified != null) {
+            response.lastModified(lastModified);
+        }
+        return response.body(body);
+    }
+
+    static <T> ResponseEntity<T> ok(ResponseVersion version, T body) {
+        return ok(version, null, body);
+    }
+}
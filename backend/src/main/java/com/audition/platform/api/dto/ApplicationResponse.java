@@ -1,5 +1,7 @@
 package com.audition.platform.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.Instant;
 import java.util.UUID;
 
@@ -14,6 +16,8 @@ public class ApplicationResponse {
     private Instant updatedAt;
     private Instant createdAt;
     private String auditionTitle; // for "my applications" list
+    @JsonIgnore
+    private Long version; // carried in the ETag, not the body
 
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
@@ -33,4 +37,6 @@ public class ApplicationResponse {
     public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
     public String getAuditionTitle() { return auditionTitle; }
     public void setAuditionTitle(String auditionTitle) { this.auditionTitle = auditionTitle; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
@@ -0,0 +1,46 @@
+package com.audition.platform.api.dto;
+
+import java.util.UUID;
+
+/**
+ * Query parameters for the audition catalog. Every filter is optional and they combine with AND.
+ * {@code sort} is {@code createdAt} (newest first, default) or {@code deadlineAt} (soonest first,
+ * auditions without a deadline excluded).
+ */
+public class AuditionFilter {
+
+    private String status;
+    private String countryCode;
+    private String category;
+    private String deadlineFrom;
+    private String deadlineTo;
+    private UUID ownerId;
+    private String sort;
+    private String cursor;
+    private Integer limit;
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public String getCountryCode() { return countryCode; }
+    public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+    public String getDeadlineFrom() { return deadlineFrom; }
+    public void setDeadlineFrom(String deadlineFrom) { this.deadlineFrom = deadlineFrom; }
+    public String getDeadlineTo() { return deadlineTo; }
+    public void setDeadlineTo(String deadlineTo) { this.deadlineTo = deadlineTo; }
+    public UUID getOwnerId() { return ownerId; }
+    public void setOwnerId(UUID ownerId) { this.ownerId = ownerId; }
+    public String getSort() { return sort; }
+    public void setSort(String sort) { this.sort = sort; }
+    public String getCursor() { return cursor; }
+    public void setCursor(String cursor) { this.cursor = cursor; }
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+
+    /** True when at most {@code status} and {@code limit} are set, i.e. the request is for the first default-sorted page. */
+    public boolean isUnfiltered() {
+        return countryCode == null && category == null && deadlineFrom == null && deadlineTo == null
+                && ownerId == null && sort == null && cursor == null;
+    }
+}
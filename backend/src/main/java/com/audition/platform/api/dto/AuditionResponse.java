@@ -1,5 +1,7 @@
 package com.audition.platform.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.Instant;
 import java.util.UUID;
 
@@ -15,6 +17,8 @@ public class AuditionResponse {
     private Instant deadlineAt;
     private String category;
     private Instant createdAt;
+    @JsonIgnore
+    private Long version; // carried in the ETag, not the body
 
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
@@ -36,4 +40,6 @@ public class AuditionResponse {
     public void setCategory(String category) { this.category = category; }
     public Instant getCreatedAt() { return createdAt; }
     public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
@@ -0,0 +1,13 @@
+package com.audition.platform.api.dto;
+
+/**
+ * Search result row. {@code snippet} is an HTML fragment of the title/description: the user text is
+ * HTML-escaped and the only tags are the {@code <mark>...</mark>} around matched terms.
+ */
+public class AuditionSearchResponse extends AuditionResponse {
+
+    private String snippet;
+
+    public String getSnippet() { return snippet; }
+    public void setSnippet(String snippet) { this.snippet = snippet; }
+}
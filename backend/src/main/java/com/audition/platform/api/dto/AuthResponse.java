@@ -5,6 +5,7 @@ public class AuthResponse {
     private String token;
     private String role;
     private String userId;
+    private String refreshToken;
 
     public AuthResponse() {}
 
@@ -14,10 +15,17 @@ public class AuthResponse {
         this.userId = userId;
     }
 
+    public AuthResponse(String token, String role, String userId, String refreshToken) {
+        this(token, role, userId);
+        this.refreshToken = refreshToken;
+    }
+
     public String getToken() { return token; }
     public void setToken(String token) { this.token = token; }
     public String getRole() { return role; }
     public void setRole(String role) { this.role = role; }
     public String getUserId() { return userId; }
     public void setUserId(String userId) { this.userId = userId; }
+    public String getRefreshToken() { return refreshToken; }
+    public void setRefreshToken(String refreshToken) { this.refreshToken = refreshToken; }
 }
@@ -0,0 +1,38 @@
+package com.audition.platform.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public class BulkDecisionRequest {
+
+    public static final int MAX_DECISIONS = 5000;
+
+    @NotEmpty
+    @Size(max = MAX_DECISIONS)
+    private List<@Valid @NotNull Item> decisions;
+
+    public List<Item> getDecisions() { return decisions; }
+    public void setDecisions(List<Item> decisions) { this.decisions = decisions; }
+
+    public static class Item {
+
+        @NotNull
+        private UUID applicationId;
+
+        @NotBlank
+        @Pattern(regexp = "ACCEPTED|REJECTED")
+        private String status;
+
+        public UUID getApplicationId() { return applicationId; }
+        public void setApplicationId(UUID applicationId) { this.applicationId = applicationId; }
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+    }
+}
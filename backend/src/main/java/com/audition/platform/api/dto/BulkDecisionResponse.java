@@ -0,0 +1,50 @@
+package com.audition.platform.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public class BulkDecisionResponse {
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,          // already had the requested status
+        INVALID_TRANSITION, // the current status cannot move to the requested one (decisions are final)
+        NOT_FOUND,          // no such application in this audition
+        DUPLICATE           // the same application appeared earlier in the request; only the first one counts
+    }
+
+    private int updated;
+    private int unchanged;
+    private int failed;
+    private List<Result> results;
+
+    public int getUpdated() { return updated; }
+    public void setUpdated(int updated) { this.updated = updated; }
+    public int getUnchanged() { return unchanged; }
+    public void setUnchanged(int unchanged) { this.unchanged = unchanged; }
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+    public List<Result> getResults() { return results; }
+    public void setResults(List<Result> results) { this.results = results; }
+
+    public static class Result {
+        private UUID applicationId;
+        private String status;
+        private Outcome outcome;
+
+        public Result() {}
+
+        public Result(UUID applicationId, String status, Outcome outcome) {
+            this.applicationId = applicationId;
+            this.status = status;
+            this.outcome = outcome;
+        }
+
+        public UUID getApplicationId() { return applicationId; }
+        public void setApplicationId(UUID applicationId) { this.applicationId = applicationId; }
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+        public Outcome getOutcome() { return outcome; }
+        public void setOutcome(Outcome outcome) { this.outcome = outcome; }
+    }
+}
@@ -0,0 +1,153 @@
+package com.audition.platform.application;
+
+import com.audition.platform.api.dto.ApplicationResponse;
+import com.audition.platform.domain.audition.ApplicationView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Writes application rows one at a time as NDJSON or CSV. Nothing is buffered beyond the writer, and
+ * the output is flushed every {@link #FLUSH_EVERY} rows so the client receives steady chunks.
+ */
+@Component
+public class ApplicationExporter {
+
+    static final int FLUSH_EVERY = 1000;
+
+    private static final String[] CSV_HEADER = {
+            "id", "auditionId", "auditionTitle", "applicantId", "applicantEmail", "status", "message", "createdAt", "updatedAt", "version"
+    };
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() { return contentType; }
+        public String extension() { return extension; }
+
+        /** Explicit {@code format} parameter wins; otherwise {@code Accept: text/csv} selects CSV. */
+        public static Format resolve(String format, String accept) {
+            if (format != null && !format.isBlank()) {
+                try {
+                    return valueOf(format.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+            return accept != null && accept.contains("text/csv") ? CSV : NDJSON;
+        }
+    }
+
+    /** Opened only after access checks pass, so errors can still be reported as JSON. */
+    @FunctionalInterface
+    public interface Target {
+        OutputStream open() throws IOException;
+    }
+
+    private final ObjectWriter rowWriter;
+
+    public ApplicationExporter(ObjectMapper objectMapper) {
+        this.rowWriter = objectMapper.writerFor(ApplicationResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n");
+    }
+
+    long write(Stream<ApplicationView> rows, Format format, OutputStream out) throws IOException {
+        return format == Format.CSV ? writeCsv(rows.iterator(), out) : writeNdjson(rows.iterator(), out);
+    }
+
+    private long writeNdjson(Iterator<ApplicationView> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (SequenceWriter sequence = rowWriter.writeValues(out)) {
+            while (rows.hasNext()) {
+                sequence.write(ApplicationService.toResponse(rows.next()));
+                if (++count % FLUSH_EVERY == 0) {
+                    sequence.flush();
+                }
+            }
+        }
+        if (count > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<ApplicationView> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvRecord(writer, CSV_HEADER);
+        long count = 0;
+        String[] record = new String[CSV_HEADER.length];
+        while (rows.hasNext()) {
+            ApplicationView v = rows.next();
+            record[0] = v.id().toString();
+            record[1] = v.auditionId().toString();
+            record[2] = v.auditionTitle();
+            record[3] = v.applicantId().toString();
+            record[4] = v.applicantEmail();
+            record[5] = v.status();
+            record[6] = v.message();
+            record[7] = v.createdAt() != null ? v.createdAt().toString() : null;
+            record[8] = v.updatedAt() != null ? v.updatedAt().toString() : null;
+            record[9] = v.version() != null ? v.version().toString() : null;
+            writeCsvRecord(writer, record);
+            if (++count % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvRecord(Writer writer, String[] fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvField(writer, fields[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180 quoting, plus a leading apostrophe on values a spreadsheet would evaluate as a formula.
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        char first = value.charAt(0);
+        boolean formula = first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+        boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -1,35 +1,68 @@
 package com.audition.platform.application;
 
 import com.audition.platform.api.dto.ApplicationResponse;
+import com.audition.platform.api.dto.BulkDecisionRequest;
+import com.audition.platform.api.dto.BulkDecisionResponse;
+import com.audition.platform.api.dto.BulkDecisionResponse.Outcome;
+import com.audition.platform.api.dto.CursorPage;
 import com.audition.platform.domain.audition.Application;
 import com.audition.platform.domain.audition.Audition;
 import com.audition.platform.domain.audition.AuditionRepository;
 import com.audition.platform.domain.audition.ApplicationRepository;
+import com.audition.platform.domain.audition.ApplicationStatusRow;
+import com.audition.platform.domain.audition.ApplicationTransition;
+import com.audition.platform.domain.audition.ApplyResult;
+import com.audition.platform.domain.audition.ApplicationView;
+import com.audition.platform.domain.audition.StatusTransitions;
 import com.audition.platform.domain.user.User;
 import com.audition.platform.domain.user.UserRepository;
+import com.audition.platform.infra.AuthPrincipal;
+import com.audition.platform.infra.AuthPrincipal.Role;
 import com.audition.platform.infra.SecurityUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ApplicationService {
 
+    private static final List<String> APPLICATION_STATUSES = List.of("SUBMITTED", "REVIEWED", "ACCEPTED", "REJECTED");
+    // Ids per lock/UPDATE statement in bulk decisions; keeps bind parameter lists well under the driver limit.
+    private static final int DECISION_CHUNK_SIZE = 1000;
+
     private final ApplicationRepository applicationRepository;
     private final AuditionRepository auditionRepository;
     private final UserRepository userRepository;
+    private final ApplicationExporter applicationExporter;
+    private final AuditionStatsService auditionStatsService;
 
     public ApplicationService(ApplicationRepository applicationRepository,
                               AuditionRepository auditionRepository,
-                              UserRepository userRepository) {
+                              UserRepository userRepository,
+                              ApplicationExporter applicationExporter,
+                              AuditionStatsService auditionStatsService) {
         this.applicationRepository = applicationRepository;
         this.auditionRepository = auditionRepository;
         this.userRepository = userRepository;
+        this.applicationExporter = applicationExporter;
+        this.auditionStatsService = auditionStatsService;
     }
 
     private static ApplicationResponse toResponse(Application app, User applicant) {
@@ -42,123 +75,288 @@ public class ApplicationService {
         r.setMessage(app.getMessage());
         r.setUpdatedAt(app.getUpdatedAt());
         r.setCreatedAt(app.getCreatedAt());
+        r.setVersion(app.getVersion());
+        return r;
+    }
+
+    private static ApplicationResponse toResponse(ApplicationTransition t) {
+        ApplicationResponse r = new ApplicationResponse();
+        r.setId(t.getId());
+        r.setAuditionId(t.getAuditionId());
+        r.setApplicantId(t.getApplicantId());
+        r.setApplicantEmail(t.getApplicantEmail());
+        r.setStatus(t.getStatus());
+        r.setMessage(t.getMessage());
+        r.setUpdatedAt(t.getUpdatedAt());
+        r.setCreatedAt(t.getCreatedAt());
+        r.setAuditionTitle(t.getAuditionTitle());
+        r.setVersion(t.getVersion());
+        return r;
+    }
+
+    static ApplicationResponse toResponse(ApplicationView view) {
+        ApplicationResponse r = new ApplicationResponse();
+        r.setId(view.id());
+        r.setAuditionId(view.auditionId());
+        r.setApplicantId(view.applicantId());
+        r.setApplicantEmail(view.applicantEmail());
+        r.setStatus(view.status());
+        r.setMessage(view.message());
+        r.setUpdatedAt(view.updatedAt());
+        r.setCreatedAt(view.createdAt());
+        r.setAuditionTitle(view.auditionTitle());
+        r.setVersion(view.version());
         return r;
     }
 
     @Transactional
     public ApplicationResponse apply(UUID auditionId) {
-        UUID applicantId = SecurityUtils.getCurrentUserId();
-        if (applicantId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
-        }
-        if (!SecurityUtils.hasRole("APPLICANT")) {
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
+        if (!principal.hasRole(Role.APPLICANT)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only APPLICANT can apply");
         }
-        Audition audition = auditionRepository.findById(auditionId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Audition not found"));
-        if (!"OPEN".equals(audition.getStatus())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Audition is not open for applications");
+        UUID applicantId = principal.userId();
+        ApplyResult result = applicationRepository.insertIfOpen(auditionId, applicantId);
+        if (result.getAuditionStatus() == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Audition not found");
         }
-        if (applicationRepository.existsByAuditionIdAndApplicantId(auditionId, applicantId)) {
+        if (result.getApplicantEmail() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "User not found");
+        }
+        if (!"OPEN".equals(result.getAuditionStatus())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Audition is not open for applications");
+        }
+        if (result.getId() == null) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Already applied to this audition");
         }
-        User applicant = userRepository.findById(applicantId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "User not found"));
-        Application app = new Application();
-        app.setAuditionId(auditionId);
-        app.setApplicantId(applicantId);
-        app.setStatus("SUBMITTED");
-        app.setUpdatedAt(java.time.Instant.now());
-        app = applicationRepository.save(app);
-        return toResponse(app, applicant);
+        auditionStatsService.applicationSubmitted(auditionId);
+
+        ApplicationResponse r = new ApplicationResponse();
+        r.setId(result.getId());
+        r.setAuditionId(auditionId);
+        r.setApplicantId(applicantId);
+        r.setApplicantEmail(result.getApplicantEmail());
+        r.setStatus("SUBMITTED");
+        r.setUpdatedAt(result.getUpdatedAt());
+        r.setCreatedAt(result.getCreatedAt());
+        r.setVersion(0L);
+        return r;
     }
 
-    public List<ApplicationResponse> listMyApplications() {
-        UUID applicantId = SecurityUtils.getCurrentUserId();
-        if (applicantId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
-        }
-        if (!SecurityUtils.hasRole("APPLICANT") && !SecurityUtils.hasRole("ADMIN")) {
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationResponse> listMyApplications(String cursor, Integer limit, String status) {
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
+        if (!principal.hasAnyRole(Role.APPLICANT, Role.ADMIN)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only APPLICANT or ADMIN can view my applications");
         }
-        List<Application> list = applicationRepository.findByApplicantIdOrderByCreatedAtDesc(applicantId);
-        return list.stream()
-                .map(app -> {
-                    Audition a = auditionRepository.findById(app.getAuditionId()).orElse(null);
-                    User applicant = userRepository.findById(app.getApplicantId()).orElse(null);
-                    ApplicationResponse r = toResponse(app, applicant);
-                    if (a != null) {
-                        r.setAuditionTitle(a.getTitle());
-                    }
-                    return r;
-                })
-                .collect(Collectors.toList());
-    }
-
-    public List<ApplicationResponse> listByAudition(UUID auditionId) {
-        UUID currentUserId = SecurityUtils.getCurrentUserId();
-        if (currentUserId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
-        }
+        UUID applicantId = principal.userId();
+        KeysetCursor after = KeysetCursor.decode(cursor, KeysetCursor.Sort.CREATED_AT_DESC);
+        int pageSize = KeysetCursor.clampLimit(limit);
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+        List<ApplicationView> rows = validateStatusFilter(status) == null
+                ? applicationRepository.findViewPageByApplicantId(applicantId, after.at(), after.id(), fetch)
+                : applicationRepository.findViewPageByApplicantIdAndStatus(applicantId, status, after.at(), after.id(), fetch);
+        return toPage(rows, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationResponse> listByAudition(UUID auditionId, String cursor, Integer limit, String status) {
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
         Audition audition = auditionRepository.findById(auditionId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Audition not found"));
-        if (!audition.getOwnerId().equals(currentUserId) && !SecurityUtils.hasRole("ADMIN")) {
+        if (!audition.getOwnerId().equals(principal.userId()) && !principal.isAdmin()) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only audition owner can list applications");
         }
-        List<Application> list = applicationRepository.findByAuditionIdOrderByCreatedAtDesc(auditionId);
-        return list.stream()
-                .map(app -> {
-                    User applicant = userRepository.findById(app.getApplicantId()).orElse(null);
-                    return toResponse(app, applicant);
-                })
-                .collect(Collectors.toList());
+        KeysetCursor after = KeysetCursor.decode(cursor, KeysetCursor.Sort.CREATED_AT_DESC);
+        int pageSize = KeysetCursor.clampLimit(limit);
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+        List<ApplicationView> rows = validateStatusFilter(status) == null
+                ? applicationRepository.findViewPageByAuditionId(auditionId, after.at(), after.id(), fetch)
+                : applicationRepository.findViewPageByAuditionIdAndStatus(auditionId, status, after.at(), after.id(), fetch);
+        return toPage(rows, pageSize);
+    }
+
+    /**
+     * Streams every application of the audition to the target, newest first. Memory stays flat
+     * whatever the row count: rows come from a server-side cursor and are written one at a time.
+     */
+    @Transactional(readOnly = true)
+    public long exportByAudition(UUID auditionId, String status, ApplicationExporter.Format format,
+                                 ApplicationExporter.Target target) throws IOException {
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
+        Audition audition = auditionRepository.findById(auditionId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Audition not found"));
+        if (!audition.getOwnerId().equals(principal.userId()) && !principal.isAdmin()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only audition owner can export applications");
+        }
+        String statusFilter = validateStatusFilter(status);
+        try (Stream<ApplicationView> rows = applicationRepository.streamViewsByAuditionId(auditionId, statusFilter);
+             OutputStream out = target.open()) {
+            return applicationExporter.write(rows, format, out);
+        }
+    }
+
+    private static String validateStatusFilter(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        if (!APPLICATION_STATUSES.contains(status)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "status must be one of " + APPLICATION_STATUSES);
+        }
+        return status;
+    }
+
+    private static CursorPage<ApplicationResponse> toPage(List<ApplicationView> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<ApplicationView> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            ApplicationView last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(KeysetCursor.Sort.CREATED_AT_DESC, last.createdAt(), last.id()).encode();
+        }
+        return new CursorPage<>(
+                page.stream().map(ApplicationService::toResponse).collect(Collectors.toList()),
+                nextCursor);
     }
 
     @Transactional
     public ApplicationResponse decide(UUID applicationId, String decisionStatus) {
+        return decide(applicationId, decisionStatus, null);
+    }
+
+    @Transactional
+    public ApplicationResponse decide(UUID applicationId, String decisionStatus, Long expectedVersion) {
         if (!"ACCEPTED".equals(decisionStatus) && !"REJECTED".equals(decisionStatus)) {
             throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "Decision status must be ACCEPTED or REJECTED");
         }
-        return updateStatusInternal(applicationId, decisionStatus);
+        return updateStatusInternal(applicationId, decisionStatus, expectedVersion);
+    }
+
+    /**
+     * Applies many decisions on one audition in a single transaction: ownership is checked once, rows are
+     * locked and updated in chunks with one UPDATE per target status, and the counters get one net delta.
+     * Unknown ids, repeated ids and transitions the state machine forbids are reported per item and do not fail
+     * the batch.
+     */
+    @Transactional
+    public BulkDecisionResponse decideAll(UUID auditionId, List<BulkDecisionRequest.Item> decisions) {
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
+        Audition audition = auditionRepository.findById(auditionId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Audition not found"));
+        if (!audition.getOwnerId().equals(principal.userId()) && !principal.isAdmin()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only audition owner can accept/reject");
+        }
+
+        Map<UUID, String> requested = new LinkedHashMap<>();
+        for (BulkDecisionRequest.Item item : decisions) {
+            requested.putIfAbsent(item.getApplicationId(), item.getStatus());
+        }
+        List<UUID> ids = new ArrayList<>(requested.keySet());
+        ids.sort(null);
+
+        Map<UUID, Outcome> outcomes = new HashMap<>();
+        AuditionStatsService.StatusDelta delta = new AuditionStatsService.StatusDelta();
+        Instant now = Instant.now();
+        for (int from = 0; from < ids.size(); from += DECISION_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + DECISION_CHUNK_SIZE, ids.size()));
+            Map<String, List<UUID>> byStatus = new HashMap<>();
+            for (ApplicationStatusRow row : applicationRepository.lockStatusesForUpdate(auditionId, chunk)) {
+                String target = requested.get(row.getId());
+                if (target.equals(row.getStatus())) {
+                    outcomes.put(row.getId(), Outcome.UNCHANGED);
+                } else if (!StatusTransitions.APPLICATION.allows(row.getStatus(), target)) {
+                    outcomes.put(row.getId(), Outcome.INVALID_TRANSITION);
+                } else {
+                    byStatus.computeIfAbsent(target, s -> new ArrayList<>()).add(row.getId());
+                    delta.moved(row.getStatus(), target);
+                    outcomes.put(row.getId(), Outcome.UPDATED);
+                }
+            }
+            byStatus.forEach((status, statusIds) -> applicationRepository.updateStatusByIds(
+                    statusIds, status, StatusTransitions.APPLICATION.predecessorsOf(status), now));
+        }
+        auditionStatsService.applicationStatusesChanged(auditionId, delta);
+
+        BulkDecisionResponse response = new BulkDecisionResponse();
+        List<BulkDecisionResponse.Result> results = new ArrayList<>(decisions.size());
+        Set<UUID> seen = new HashSet<>();
+        int updated = 0;
+        int unchanged = 0;
+        for (BulkDecisionRequest.Item item : decisions) {
+            Outcome outcome = !seen.add(item.getApplicationId())
+                    ? Outcome.DUPLICATE
+                    : outcomes.getOrDefault(item.getApplicationId(), Outcome.NOT_FOUND);
+            if (outcome == Outcome.UPDATED) {
+                updated++;
+            } else if (outcome == Outcome.UNCHANGED) {
+                unchanged++;
+            }
+            results.add(new BulkDecisionResponse.Result(item.getApplicationId(), item.getStatus(), outcome));
+        }
+        response.setUpdated(updated);
+        response.setUnchanged(unchanged);
+        response.setFailed(results.size() - updated - unchanged);
+        response.setResults(results);
+        return response;
     }
 
     @Transactional
     public ApplicationResponse markReviewed(UUID applicationId) {
-        return updateStatusInternal(applicationId, "REVIEWED");
+        return markReviewed(applicationId, null);
     }
 
-    private ApplicationResponse updateStatusInternal(UUID applicationId, String newStatus) {
-        UUID currentUserId = SecurityUtils.getCurrentUserId();
-        if (currentUserId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
+    @Transactional
+    public ApplicationResponse markReviewed(UUID applicationId, Long expectedVersion) {
+        return updateStatusInternal(applicationId, "REVIEWED", expectedVersion);
+    }
+
+    // One conditional UPDATE (ownership, state machine and version checked in its WHERE clause); the
+    // application, audition and user are only read again when it matched nothing, to pick the error.
+    private ApplicationResponse updateStatusInternal(UUID applicationId, String newStatus, Long expectedVersion) {
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
+        ApplicationTransition transition = applicationRepository.transitionStatus(applicationId, newStatus,
+                StatusTransitions.APPLICATION.predecessorsOf(newStatus),
+                principal.userId(), principal.isAdmin(), expectedVersion).orElse(null);
+        if (transition == null) {
+            return transitionRejected(applicationId, newStatus, expectedVersion, principal);
         }
+        auditionStatsService.applicationStatusChanged(transition.getAuditionId(), transition.getPreviousStatus(), newStatus);
+        return toResponse(transition);
+    }
+
+    private ApplicationResponse transitionRejected(UUID applicationId, String newStatus, Long expectedVersion,
+                                                   AuthPrincipal principal) {
         Application app = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
         Audition audition = auditionRepository.findById(app.getAuditionId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Audition not found"));
-        if (!audition.getOwnerId().equals(currentUserId) && !SecurityUtils.hasRole("ADMIN")) {
+        if (!audition.getOwnerId().equals(principal.userId()) && !principal.isAdmin()) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only audition owner can accept/reject");
         }
-        app.setStatus(newStatus);
-        app.setUpdatedAt(java.time.Instant.now());
-        app = applicationRepository.save(app);
-        User applicant = userRepository.findById(app.getApplicantId()).orElse(null);
-        return toResponse(app, applicant);
+        if (expectedVersion != null && app.getVersion() != expectedVersion) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Application was modified by someone else");
+        }
+        if (!newStatus.equals(app.getStatus())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Cannot change application status from " + app.getStatus() + " to " + newStatus);
+        }
+        // Repeating the current status is a no-op, so retried decisions succeed.
+        ApplicationResponse response = toResponse(app, userRepository.findById(app.getApplicantId()).orElse(null));
+        response.setAuditionTitle(audition.getTitle());
+        return response;
     }
 
+    @Transactional(readOnly = true)
     public ApplicationResponse getApplicationForApplicantOrOwner(UUID applicationId) {
-        UUID currentUserId = SecurityUtils.getCurrentUserId();
-        if (currentUserId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
-        }
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
         Application app = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
         Audition audition = auditionRepository.findById(app.getAuditionId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Audition not found"));
 
-        boolean isApplicant = app.getApplicantId().equals(currentUserId);
-        boolean isOwner = audition.getOwnerId().equals(currentUserId);
-        boolean isAdmin = SecurityUtils.hasRole("ADMIN");
+        boolean isApplicant = app.getApplicantId().equals(principal.userId());
+        boolean isOwner = audition.getOwnerId().equals(principal.userId());
+        boolean isAdmin = principal.isAdmin();
         if (!isApplicant && !isOwner && !isAdmin) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Not allowed to access this application");
         }
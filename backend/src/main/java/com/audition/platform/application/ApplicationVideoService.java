@@ -8,6 +8,8 @@ import com.audition.platform.domain.audition.ApplicationVideo;
 import com.audition.platform.domain.audition.ApplicationVideoRepository;
 import com.audition.platform.domain.audition.Audition;
 import com.audition.platform.domain.audition.AuditionRepository;
+import com.audition.platform.infra.AuthPrincipal;
+import com.audition.platform.infra.AuthPrincipal.Role;
 import com.audition.platform.infra.SecurityUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -23,13 +25,16 @@ public class ApplicationVideoService {
     private final ApplicationVideoRepository applicationVideoRepository;
     private final ApplicationRepository applicationRepository;
     private final AuditionRepository auditionRepository;
+    private final AuditionStatsService auditionStatsService;
 
     public ApplicationVideoService(ApplicationVideoRepository applicationVideoRepository,
                                    ApplicationRepository applicationRepository,
-                                   AuditionRepository auditionRepository) {
+                                   AuditionRepository auditionRepository,
+                                   AuditionStatsService auditionStatsService) {
         this.applicationVideoRepository = applicationVideoRepository;
         this.applicationRepository = applicationRepository;
         this.auditionRepository = auditionRepository;
+        this.auditionStatsService = auditionStatsService;
     }
 
     private static ApplicationVideoResponse toResponse(ApplicationVideo video) {
@@ -53,35 +58,31 @@ public class ApplicationVideoService {
 
     @Transactional
     public ApplicationVideoResponse create(UUID applicationId, CreateApplicationVideoRequest request) {
-        UUID userId = SecurityUtils.getCurrentUserId();
-        if (userId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
-        }
-        if (!SecurityUtils.hasRole("APPLICANT")) {
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
+        if (!principal.hasRole(Role.APPLICANT)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only APPLICANT can add videos");
         }
 
         Application application = getApplication(applicationId);
-        if (!application.getApplicantId().equals(userId)) {
+        if (!application.getApplicantId().equals(principal.userId())) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only application owner can add videos");
         }
 
         ApplicationVideo video = new ApplicationVideo();
         video.setApplicationId(applicationId);
         video.setVideoUrl(request.getVideoUrl().trim());
-        return toResponse(applicationVideoRepository.save(video));
+        video = applicationVideoRepository.save(video);
+        auditionStatsService.videoAdded(application.getAuditionId());
+        return toResponse(video);
     }
 
     public List<ApplicationVideoResponse> list(UUID applicationId) {
-        UUID userId = SecurityUtils.getCurrentUserId();
-        if (userId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
-        }
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
         Application application = getApplication(applicationId);
         Audition audition = getAudition(application.getAuditionId());
-        boolean isApplicant = application.getApplicantId().equals(userId);
-        boolean isOwner = audition.getOwnerId().equals(userId);
-        boolean isAdmin = SecurityUtils.hasRole("ADMIN");
+        boolean isApplicant = application.getApplicantId().equals(principal.userId());
+        boolean isOwner = audition.getOwnerId().equals(principal.userId());
+        boolean isAdmin = principal.isAdmin();
         if (!isApplicant && !isOwner && !isAdmin) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Not allowed to access videos");
         }
@@ -93,16 +94,14 @@ public class ApplicationVideoService {
 
     @Transactional
     public void delete(UUID videoId) {
-        UUID userId = SecurityUtils.getCurrentUserId();
-        if (userId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
-        }
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
         ApplicationVideo video = applicationVideoRepository.findById(videoId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Video not found"));
         Application application = getApplication(video.getApplicationId());
-        if (!application.getApplicantId().equals(userId)) {
+        if (!application.getApplicantId().equals(principal.userId())) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only applicant owner can delete video");
         }
         applicationVideoRepository.delete(video);
+        auditionStatsService.videoRemoved(application.getAuditionId());
     }
 }
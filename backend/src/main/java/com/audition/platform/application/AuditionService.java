@@ -1,35 +1,57 @@
 package com.audition.platform.application;
 
+import com.audition.platform.api.dto.AuditionFilter;
 import com.audition.platform.api.dto.AuditionResponse;
+import com.audition.platform.api.dto.AuditionSearchResponse;
 import com.audition.platform.api.dto.CreateAuditionRequest;
+import com.audition.platform.api.dto.CursorPage;
 import com.audition.platform.api.dto.UpdateAuditionRequest;
 import com.audition.platform.domain.audition.Audition;
 import com.audition.platform.domain.audition.AuditionRepository;
+import com.audition.platform.domain.audition.AuditionSearchHit;
+import com.audition.platform.domain.audition.AuditionSpecifications;
+import com.audition.platform.domain.audition.StatusTransitions;
 import com.audition.platform.domain.user.UserRepository;
+import com.audition.platform.infra.AuthPrincipal;
+import com.audition.platform.infra.AuthPrincipal.Role;
 import com.audition.platform.infra.SecurityUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.HtmlUtils;
 
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 public class AuditionService {
+    private static final Set<String> AUDITION_STATUSES = Set.of("DRAFT", "OPEN", "CLOSED");
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    private static final Sort DEADLINE_FIRST = Sort.by(Sort.Order.asc("deadlineAt"), Sort.Order.asc("id"));
 
     private final AuditionRepository auditionRepository;
     private final UserRepository userRepository;
+    private final OpenAuditionSnapshot openAuditionSnapshot;
+    private final EntityCaches entityCaches;
 
-    public AuditionService(AuditionRepository auditionRepository, UserRepository userRepository) {
+    public AuditionService(AuditionRepository auditionRepository,
+                           UserRepository userRepository,
+                           OpenAuditionSnapshot openAuditionSnapshot,
+                           EntityCaches entityCaches) {
         this.auditionRepository = auditionRepository;
         this.userRepository = userRepository;
+        this.openAuditionSnapshot = openAuditionSnapshot;
+        this.entityCaches = entityCaches;
     }
 
-    private static AuditionResponse toResponse(Audition a) {
+    static AuditionResponse toResponse(Audition a) {
         AuditionResponse r = new AuditionResponse();
         r.setId(a.getId());
         r.setOwnerId(a.getOwnerId());
@@ -41,29 +63,62 @@ public class AuditionService {
         r.setDeadlineAt(a.getDeadlineAt());
         r.setCategory(a.getCategory());
         r.setCreatedAt(a.getCreatedAt());
+        r.setVersion(a.getVersion());
+        return r;
+    }
+
+    /** Escapes the user text and only then turns the match delimiters into {@code <mark>} tags. */
+    private static String snippetHtml(String snippet) {
+        if (snippet == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(snippet, "UTF-8")
+                .replace(AuditionRepository.SNIPPET_START, "<mark>")
+                .replace(AuditionRepository.SNIPPET_STOP, "</mark>");
+    }
+
+    private static AuditionSearchResponse toSearchResponse(AuditionSearchHit h) {
+        AuditionSearchResponse r = new AuditionSearchResponse();
+        r.setId(h.getId());
+        r.setOwnerId(h.getOwnerId());
+        r.setTitle(h.getTitle());
+        r.setDescription(h.getDescription());
+        r.setStatus(h.getStatus());
+        r.setUpdatedAt(h.getUpdatedAt());
+        r.setCountryCode(h.getCountryCode());
+        r.setDeadlineAt(h.getDeadlineAt());
+        r.setCategory(h.getCategory());
+        r.setCreatedAt(h.getCreatedAt());
+        r.setSnippet(snippetHtml(h.getSnippet()));
         return r;
     }
 
     private static Instant parseInstantOrNull(String value) {
+        return parseInstantOrNull(value, "deadlineAt");
+    }
+
+    private static Instant parseInstantOrNull(String value, String field) {
         if (value == null || value.isBlank()) {
             return null;
         }
         try {
             return Instant.parse(value);
         } catch (DateTimeParseException e) {
-            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "deadlineAt must be ISO-8601 datetime");
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, field + " must be ISO-8601 datetime");
         }
     }
 
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
     @Transactional
     public AuditionResponse create(CreateAuditionRequest req) {
-        UUID ownerId = SecurityUtils.getCurrentUserId();
-        if (ownerId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
-        }
-        if (!SecurityUtils.hasRole("AGENCY") && !SecurityUtils.hasRole("ADMIN")) {
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
+        if (!principal.hasAnyRole(Role.AGENCY, Role.ADMIN)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only AGENCY or ADMIN can create auditions");
         }
+        UUID ownerId = principal.userId();
         if (!userRepository.existsById(ownerId)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "User not found");
         }
@@ -77,90 +132,178 @@ public class AuditionService {
         a.setDeadlineAt(parseInstantOrNull(req.getDeadlineAt()));
         a.setUpdatedAt(Instant.now());
         a = auditionRepository.save(a);
-        return toResponse(a);
+        AuditionResponse response = toResponse(a);
+        openAuditionSnapshot.publish(response);
+        return response;
     }
 
-    public List<AuditionResponse> listOpen() {
-        return auditionRepository.findByStatusOrderByCreatedAtDesc("OPEN").stream()
+    @Transactional(readOnly = true)
+    public List<AuditionResponse> listAll() {
+        return auditionRepository.findAllByOrderByCreatedAtDesc().stream()
                 .map(AuditionService::toResponse)
                 .collect(Collectors.toList());
     }
 
-    public List<AuditionResponse> listByStatus(String status) {
-        return auditionRepository.findByStatusOrderByCreatedAtDesc(status).stream()
-                .map(AuditionService::toResponse)
-                .collect(Collectors.toList());
+    /** Public catalog query; anything other than OPEN requires AGENCY or ADMIN. */
+    @Transactional(readOnly = true)
+    public CursorPage<AuditionResponse> query(AuditionFilter filter) {
+        return queryPage(filter, publicStatus(filter.getStatus()), filter.getOwnerId());
     }
 
-    public List<AuditionResponse> listAll() {
-        return auditionRepository.findAllByOrderByCreatedAtDesc().stream()
-                .map(AuditionService::toResponse)
-                .collect(Collectors.toList());
+    /** Ranked full-text search over title and description, combinable with status/country/category. */
+    @Transactional(readOnly = true)
+    public CursorPage<AuditionSearchResponse> search(String q, AuditionFilter filter) {
+        String query = blankToNull(q);
+        if (query == null) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "q is required");
+        }
+        String status = publicStatus(filter.getStatus());
+        if (!AUDITION_STATUSES.contains(status)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "status must be one of " + AUDITION_STATUSES);
+        }
+        int limit = KeysetCursor.clampLimit(filter.getLimit());
+        SearchCursor after = SearchCursor.decode(filter.getCursor());
+
+        List<AuditionSearchHit> hits = auditionRepository.search(query, status,
+                blankToNull(filter.getCountryCode()), blankToNull(filter.getCategory()),
+                after.rank(), after.id(), limit + 1);
+        String nextCursor = null;
+        if (hits.size() > limit) {
+            hits = hits.subList(0, limit);
+            AuditionSearchHit last = hits.get(limit - 1);
+            nextCursor = new SearchCursor(last.getRank(), last.getId()).encode();
+        }
+        return new CursorPage<>(hits.stream().map(AuditionService::toSearchResponse).collect(Collectors.toList()), nextCursor);
     }
 
-    public List<AuditionResponse> listMine() {
-        UUID ownerId = SecurityUtils.getCurrentUserId();
-        if (ownerId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
+    private static String publicStatus(String requested) {
+        String status = blankToNull(requested);
+        if (status == null) {
+            return "OPEN";
+        }
+        if (!"OPEN".equals(status)) {
+            AuthPrincipal principal = SecurityUtils.getCurrentPrincipal();
+            if (principal == null || !principal.hasAnyRole(Role.AGENCY, Role.ADMIN)) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only AGENCY or ADMIN can query non-open auditions");
+            }
         }
-        if (!SecurityUtils.hasRole("AGENCY") && !SecurityUtils.hasRole("ADMIN")) {
+        return status;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<AuditionResponse> queryMine(AuditionFilter filter) {
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
+        if (!principal.hasAnyRole(Role.AGENCY, Role.ADMIN)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only AGENCY or ADMIN can list own auditions");
         }
-        return auditionRepository.findByOwnerIdOrderByCreatedAtDesc(ownerId).stream()
-                .map(AuditionService::toResponse)
-                .collect(Collectors.toList());
+        return queryPage(filter, blankToNull(filter.getStatus()), principal.userId());
+    }
+
+    private CursorPage<AuditionResponse> queryPage(AuditionFilter filter, String status, UUID ownerId) {
+        if (status != null && !AUDITION_STATUSES.contains(status)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "status must be one of " + AUDITION_STATUSES);
+        }
+        String sortKey = blankToNull(filter.getSort());
+        boolean byDeadline;
+        if (sortKey == null || "createdAt".equals(sortKey)) {
+            byDeadline = false;
+        } else if ("deadlineAt".equals(sortKey)) {
+            byDeadline = true;
+        } else {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "sort must be createdAt or deadlineAt");
+        }
+        Instant deadlineFrom = parseInstantOrNull(filter.getDeadlineFrom(), "deadlineFrom");
+        Instant deadlineTo = parseInstantOrNull(filter.getDeadlineTo(), "deadlineTo");
+        int limit = KeysetCursor.clampLimit(filter.getLimit());
+
+        Specification<Audition> spec = Specification.where(AuditionSpecifications.hasStatus(status))
+                .and(AuditionSpecifications.ownedBy(ownerId))
+                .and(AuditionSpecifications.hasCountry(blankToNull(filter.getCountryCode())))
+                .and(AuditionSpecifications.hasCategory(blankToNull(filter.getCategory())))
+                .and(AuditionSpecifications.deadlineFrom(deadlineFrom))
+                .and(AuditionSpecifications.deadlineBefore(deadlineTo));
+        KeysetCursor.Sort cursorSort = byDeadline ? KeysetCursor.Sort.DEADLINE_AT_ASC : KeysetCursor.Sort.CREATED_AT_DESC;
+        KeysetCursor after = KeysetCursor.decode(filter.getCursor(), cursorSort);
+        Sort sort;
+        if (byDeadline) {
+            spec = spec.and(AuditionSpecifications.hasDeadline())
+                    .and(AuditionSpecifications.after("deadlineAt", after.at(), after.id()));
+            sort = DEADLINE_FIRST;
+        } else {
+            spec = spec.and(AuditionSpecifications.before("createdAt", after.at(), after.id()));
+            sort = NEWEST_FIRST;
+        }
+
+        Sort pageSort = sort;
+        List<Audition> rows = auditionRepository.findBy(spec, q -> q.sortBy(pageSort).limit(limit + 1).all());
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            Audition last = rows.get(limit - 1);
+            nextCursor = new KeysetCursor(cursorSort, byDeadline ? last.getDeadlineAt() : last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(rows.stream().map(AuditionService::toResponse).collect(Collectors.toList()), nextCursor);
     }
 
+    @Transactional(readOnly = true)
     public AuditionResponse getById(UUID id) {
         Audition a = auditionRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Audition not found"));
         return toResponse(a);
     }
 
+    /**
+     * Applies the non-null fields with one conditional UPDATE. Status changes must follow
+     * {@link StatusTransitions#AUDITION}; {@code expectedVersion} (from If-Match) makes the write conditional
+     * on nobody having changed the audition since the caller read it.
+     */
     @Transactional
-    public AuditionResponse update(UUID id, UpdateAuditionRequest request) {
-        UUID userId = SecurityUtils.getCurrentUserId();
-        if (userId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
-        }
-
-        Audition audition = auditionRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Audition not found"));
+    public AuditionResponse update(UUID id, UpdateAuditionRequest request, Long expectedVersion) {
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
+        String status = request.getStatus();
+        Instant deadlineAt = parseInstantOrNull(request.getDeadlineAt());
 
-        if (!SecurityUtils.hasRole("ADMIN") && !audition.getOwnerId().equals(userId)) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only owner or ADMIN can update this audition");
-        }
+        // native UPDATE: the cached row would go stale, and a rejection is diagnosed from a fresh read
+        entityCaches.evict(Audition.class, id);
+        Audition audition = auditionRepository.updateIfAllowed(id,
+                        request.getTitle() != null ? request.getTitle().trim() : null,
+                        request.getDescription() != null ? request.getDescription().trim() : null,
+                        status,
+                        StatusTransitions.AUDITION.predecessorsOf(status),
+                        request.getCountryCode(),
+                        request.getCategory(),
+                        request.getDeadlineAt() != null,
+                        deadlineAt,
+                        principal.userId(),
+                        principal.isAdmin(),
+                        expectedVersion)
+                .orElseThrow(() -> updateRejected(id, status, expectedVersion, principal));
+        AuditionResponse response = toResponse(audition);
+        openAuditionSnapshot.publish(response);
+        return response;
+    }
 
-        if (request.getTitle() != null) {
-            audition.setTitle(request.getTitle().trim());
-        }
-        if (request.getDescription() != null) {
-            audition.setDescription(request.getDescription().trim());
+    // Only reached when the conditional UPDATE matched nothing.
+    private ResponseStatusException updateRejected(UUID id, String status, Long expectedVersion, AuthPrincipal principal) {
+        Audition current = auditionRepository.findById(id).orElse(null);
+        if (current == null) {
+            return new ResponseStatusException(HttpStatus.NOT_FOUND, "Audition not found");
         }
-        if (request.getStatus() != null) {
-            audition.setStatus(request.getStatus());
+        if (!principal.isAdmin() && !current.getOwnerId().equals(principal.userId())) {
+            return new ResponseStatusException(HttpStatus.FORBIDDEN, "Only owner or ADMIN can update this audition");
         }
-        if (request.getCountryCode() != null) {
-            audition.setCountryCode(request.getCountryCode());
+        if (expectedVersion != null && current.getVersion() != expectedVersion) {
+            return new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Audition was modified by someone else");
         }
-        if (request.getCategory() != null) {
-            audition.setCategory(request.getCategory());
-        }
-        if (request.getDeadlineAt() != null) {
-            audition.setDeadlineAt(parseInstantOrNull(request.getDeadlineAt()));
-        }
-        audition.setUpdatedAt(Instant.now());
-        return toResponse(auditionRepository.save(audition));
+        return new ResponseStatusException(HttpStatus.CONFLICT,
+                "Cannot change audition status from " + current.getStatus() + " to " + status);
     }
 
     public void delete(UUID id) {
-        UUID userId = SecurityUtils.getCurrentUserId();
-        if (userId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
-        }
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
         Audition audition = auditionRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Audition not found"));
-        if (!SecurityUtils.hasRole("ADMIN") && !audition.getOwnerId().equals(userId)) {
+        if (!principal.isAdmin() && !audition.getOwnerId().equals(principal.userId())) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only owner or ADMIN can delete this audition");
         }
         throw new ResponseStatusException(HttpStatus.CONFLICT, "Audition delete is not supported yet");
@@ -0,0 +1,129 @@
+package com.audition.platform.application;
+
+import com.audition.platform.domain.audition.AuditionStatsRepository;
+import com.audition.platform.domain.audition.AuditionStatsTotals;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Maintains {@code audition_stats}. Every mutator joins the caller's transaction (it is an error to call
+ * one without), so a counter change commits or rolls back together with the row it counts.
+ */
+@Service
+public class AuditionStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditionStatsService.class);
+
+    // pg_advisory lock key for the verify job ("audstats").
+    private static final long VERIFY_LOCK_KEY = 0x6175647374617473L;
+
+    private final AuditionStatsRepository auditionStatsRepository;
+    private final int shards;
+    private final Counter driftCorrected;
+
+    public AuditionStatsService(AuditionStatsRepository auditionStatsRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.stats.shards:8}") int shards) {
+        this.auditionStatsRepository = auditionStatsRepository;
+        this.shards = Math.max(1, Math.min(shards, Short.MAX_VALUE));
+        this.driftCorrected = Counter.builder("audition.stats.drift.corrected").register(meterRegistry);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applicationSubmitted(UUID auditionId) {
+        increment(auditionId, 1, 0, 0, 0, 0);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applicationStatusChanged(UUID auditionId, String from, String to) {
+        StatusDelta delta = new StatusDelta();
+        delta.moved(from, to);
+        applicationStatusesChanged(auditionId, delta);
+    }
+
+    /** Applies the net effect of many status changes on one audition with a single counter upsert. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applicationStatusesChanged(UUID auditionId, StatusDelta delta) {
+        long[] d = delta.counts;
+        if (d[0] == 0 && d[1] == 0 && d[2] == 0 && d[3] == 0) {
+            return;
+        }
+        increment(auditionId, d[0], d[1], d[2], d[3], 0);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void videoAdded(UUID auditionId) {
+        increment(auditionId, 0, 0, 0, 0, 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void videoRemoved(UUID auditionId) {
+        increment(auditionId, 0, 0, 0, 0, -1);
+    }
+
+    @Transactional(readOnly = true)
+    public AuditionStatsTotals totals() {
+        return auditionStatsRepository.totals();
+    }
+
+    @Transactional(readOnly = true)
+    public AuditionStatsTotals totalsForOwner(UUID ownerId) {
+        return auditionStatsRepository.totalsForOwner(ownerId);
+    }
+
+    /**
+     * Recomputes the counters from the source tables and corrects any drift (e.g. writes made while the
+     * V10 backfill was running, or manual SQL). Only one node runs it at a time.
+     */
+    @Scheduled(initialDelayString = "${app.stats.verify-initial-delay-ms:60000}",
+            fixedDelayString = "${app.stats.verify-ms:3600000}")
+    @Transactional
+    public void verify() {
+        if (!auditionStatsRepository.tryAdvisoryXactLock(VERIFY_LOCK_KEY)) {
+            return;
+        }
+        int corrected = auditionStatsRepository.correctDrift();
+        if (corrected > 0) {
+            driftCorrected.increment(corrected);
+            log.warn("[AuditionStatsService] corrected counter drift on {} audition(s)", corrected);
+        }
+    }
+
+    private void increment(UUID auditionId, long submitted, long reviewed, long accepted, long rejected, long videos) {
+        short shard = (short) ThreadLocalRandom.current().nextInt(shards);
+        auditionStatsRepository.increment(auditionId, shard, submitted, reviewed, accepted, rejected, videos);
+    }
+
+    /** Net per-status change accumulated over any number of transitions. */
+    public static final class StatusDelta {
+        private final long[] counts = new long[4];
+
+        public void moved(String from, String to) {
+            if (from.equals(to)) {
+                return;
+            }
+            counts[statusIndex(from)]--;
+            counts[statusIndex(to)]++;
+        }
+    }
+
+    private static int statusIndex(String status) {
+        return switch (status) {
+            case "SUBMITTED" -> 0;
+            case "REVIEWED" -> 1;
+            case "ACCEPTED" -> 2;
+            case "REJECTED" -> 3;
+            default -> throw new IllegalArgumentException("Unknown application status: " + status);
+        };
+    }
+}
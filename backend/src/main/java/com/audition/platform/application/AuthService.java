@@ -3,18 +3,31 @@ package com.audition.platform.application;
 import com.audition.platform.api.dto.AuthResponse;
 import com.audition.platform.api.dto.AuthMeResponse;
 import com.audition.platform.api.dto.LoginRequest;
+import com.audition.platform.api.dto.RefreshTokenRequest;
 import com.audition.platform.api.dto.SignupRequest;
+import com.audition.platform.domain.user.RefreshToken;
+import com.audition.platform.domain.user.RefreshTokenRepository;
+import com.audition.platform.domain.user.RevokedToken;
+import com.audition.platform.domain.user.RevokedTokenRepository;
 import com.audition.platform.domain.user.User;
 import com.audition.platform.domain.user.UserRepository;
 import com.audition.platform.infra.JwtService;
+import com.audition.platform.infra.PasswordHasher;
+import com.audition.platform.infra.ReadYourWrites;
+import com.audition.platform.infra.RevokedTokenRegistry;
 import com.audition.platform.infra.SecurityUtils;
+import com.audition.platform.infra.TokenDigests;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
@@ -24,18 +37,33 @@ public class AuthService {
     private static final Set<String> ALLOWED_ROLES = Set.of("APPLICANT", "AGENCY");
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final PasswordHasher passwordHasher;
     private final JwtService jwtService;
+    private final UserProfileCache userProfileCache;
+    private final ReadYourWrites readYourWrites;
 
     public AuthService(UserRepository userRepository,
-                       PasswordEncoder passwordEncoder,
-                       JwtService jwtService) {
+                       RefreshTokenRepository refreshTokenRepository,
+                       RevokedTokenRepository revokedTokenRepository,
+                       RevokedTokenRegistry revokedTokenRegistry,
+                       PasswordHasher passwordHasher,
+                       JwtService jwtService,
+                       UserProfileCache userProfileCache,
+                       ReadYourWrites readYourWrites) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.revokedTokenRegistry = revokedTokenRegistry;
+        this.passwordHasher = passwordHasher;
         this.jwtService = jwtService;
+        this.userProfileCache = userProfileCache;
+        this.readYourWrites = readYourWrites;
     }
 
-    @Transactional
+    // Not transactional: hashing must not hold a pooled connection; the unique email constraint covers races.
     public AuthResponse signup(SignupRequest req) {
         String email = req.getEmail().trim().toLowerCase(Locale.ROOT);
         String role = req.getRole().trim().toUpperCase(Locale.ROOT);
@@ -47,38 +75,106 @@ public class AuthService {
         }
         User user = new User();
         user.setEmail(email);
-        user.setPasswordHash(passwordEncoder.encode(req.getPassword()));
+        user.setPasswordHash(passwordHasher.encode(req.getPassword()));
         user.setRole(role);
         user.setUpdatedAt(Instant.now());
         user = userRepository.save(user);
-        String token = jwtService.createToken(user.getId(), user.getEmail(), user.getRole());
-        return new AuthResponse(token, user.getRole(), user.getId().toString());
+        // the caller is anonymous here, so nothing else knows the new user's first reads must see this row
+        readYourWrites.markWritten(user.getId());
+        return issueTokens(user);
     }
 
     public AuthResponse login(LoginRequest req) {
         User user = userRepository.findByEmail(req.getEmail().trim().toLowerCase())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid email or password"));
-        if (!passwordEncoder.matches(req.getPassword(), user.getPasswordHash())) {
+        if (!passwordHasher.matches(req.getPassword(), user.getPasswordHash())) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid email or password");
         }
-        String token = jwtService.createToken(user.getId(), user.getEmail(), user.getRole());
-        return new AuthResponse(token, user.getRole(), user.getId().toString());
+        if (passwordHasher.needsRehash(user.getPasswordHash())) {
+            user.setPasswordHash(passwordHasher.encode(req.getPassword()));
+            user.setUpdatedAt(Instant.now());
+            user = userRepository.save(user);
+            userProfileCache.invalidate(user.getId());
+        }
+        return issueTokens(user);
     }
 
-    public AuthMeResponse me() {
-        UUID userId = SecurityUtils.getCurrentUserId();
-        if (userId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
+    @Transactional
+    public AuthResponse refresh(RefreshTokenRequest req) {
+        String tokenHash = TokenDigests.sha256(req.getRefreshToken());
+        // Rotate: each refresh token is single-use. The conditional update lets exactly one concurrent caller win.
+        if (refreshTokenRepository.claim(tokenHash, Instant.now()) != 1) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
         }
-        User user = userRepository.findById(userId)
+        RefreshToken current = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token"));
+        User user = userRepository.findById(current.getUserId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
+        return issueTokens(user);
+    }
+
+    @Transactional
+    public void logout(RefreshTokenRequest req) {
+        refreshTokenRepository.findByTokenHash(TokenDigests.sha256(req.getRefreshToken()))
+                .filter(token -> token.getRevokedAt() == null)
+                .ifPresent(token -> revoke(List.of(token)));
+    }
+
+    public AuthMeResponse me() {
+        UUID userId = SecurityUtils.requirePrincipal().userId();
+        UserProfileCache.Profile profile = userProfileCache.get(userId, id -> userRepository.findById(id)
+                .map(UserProfileCache.Profile::of)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found")));
 
         AuthMeResponse response = new AuthMeResponse();
-        response.setUserId(user.getId().toString());
-        response.setEmail(user.getEmail());
-        response.setRole(user.getRole());
-        response.setName(user.getName());
-        response.setProfileImageUrl(user.getProfileImageUrl());
+        response.setUserId(profile.userId().toString());
+        response.setEmail(profile.email());
+        response.setRole(profile.role());
+        response.setName(profile.name());
+        response.setProfileImageUrl(profile.profileImageUrl());
         return response;
     }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.purge-ms:3600000}")
+    @Transactional
+    public void purgeExpiredTokens() {
+        Instant now = Instant.now();
+        refreshTokenRepository.deleteExpired(now);
+        revokedTokenRepository.deleteExpired(now);
+    }
+
+    private AuthResponse issueTokens(User user) {
+        UUID accessTokenId = UUID.randomUUID();
+        String accessToken = jwtService.createToken(user.getId(), user.getEmail(), user.getRole(), accessTokenId);
+        String refreshToken = jwtService.createRefreshToken();
+
+        RefreshToken row = new RefreshToken();
+        row.setUserId(user.getId());
+        row.setTokenHash(TokenDigests.sha256(refreshToken));
+        row.setAccessTokenId(accessTokenId);
+        row.setExpiresAt(Instant.now().plusMillis(jwtService.getRefreshExpirationMs()));
+        refreshTokenRepository.save(row);
+
+        return new AuthResponse(accessToken, user.getRole(), user.getId().toString(), refreshToken);
+    }
+
+    private void revoke(List<RefreshToken> tokens) {
+        Instant now = Instant.now();
+        Instant accessExpiry = now.plusMillis(jwtService.getExpirationMs());
+        List<UUID> accessTokenIds = new ArrayList<>();
+        for (RefreshToken token : tokens) {
+            token.setRevokedAt(now);
+            if (token.getAccessTokenId() != null) {
+                accessTokenIds.add(token.getAccessTokenId());
+                revokedTokenRepository.save(new RevokedToken(token.getAccessTokenId(), accessExpiry));
+            }
+        }
+        refreshTokenRepository.saveAll(tokens);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accessTokenIds.forEach(revokedTokenRegistry::add);
+            }
+        });
+    }
 }
@@ -4,19 +4,23 @@ import com.audition.platform.api.dto.AgencyDashboardResponse;
 import com.audition.platform.api.dto.ApplicantDashboardResponse;
 import com.audition.platform.api.dto.ApplicationResponse;
 import com.audition.platform.api.dto.AuditionResponse;
-import com.audition.platform.domain.audition.Application;
 import com.audition.platform.domain.audition.ApplicationRepository;
 import com.audition.platform.domain.audition.ApplicationVideoRepository;
 import com.audition.platform.domain.audition.Audition;
+import com.audition.platform.domain.audition.AuditionCounts;
 import com.audition.platform.domain.audition.AuditionRepository;
-import com.audition.platform.domain.user.User;
-import com.audition.platform.domain.user.UserRepository;
+import com.audition.platform.domain.audition.AuditionStatsTotals;
+import com.audition.platform.domain.audition.StatusCount;
+import com.audition.platform.infra.AuthPrincipal;
+import com.audition.platform.infra.AuthPrincipal.Role;
 import com.audition.platform.infra.SecurityUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -24,19 +28,24 @@ import java.util.stream.Collectors;
 
 @Service
 public class DashboardService {
+    private static final Pageable RECENT_APPLICATIONS = PageRequest.of(0, 10);
+
     private final AuditionRepository auditionRepository;
     private final ApplicationRepository applicationRepository;
     private final ApplicationVideoRepository applicationVideoRepository;
-    private final UserRepository userRepository;
+    private final AuditionStatsService auditionStatsService;
+    private final ParallelReads parallelReads;
 
     public DashboardService(AuditionRepository auditionRepository,
                             ApplicationRepository applicationRepository,
                             ApplicationVideoRepository applicationVideoRepository,
-                            UserRepository userRepository) {
+                            AuditionStatsService auditionStatsService,
+                            ParallelReads parallelReads) {
         this.auditionRepository = auditionRepository;
         this.applicationRepository = applicationRepository;
         this.applicationVideoRepository = applicationVideoRepository;
-        this.userRepository = userRepository;
+        this.auditionStatsService = auditionStatsService;
+        this.parallelReads = parallelReads;
     }
 
     private static AuditionResponse toAuditionResponse(Audition a) {
@@ -54,97 +63,81 @@ public class DashboardService {
         return r;
     }
 
-    private ApplicationResponse toApplicationResponse(Application app, Map<UUID, Audition> auditionMap) {
-        ApplicationResponse response = new ApplicationResponse();
-        response.setId(app.getId());
-        response.setAuditionId(app.getAuditionId());
-        response.setApplicantId(app.getApplicantId());
-        response.setStatus(app.getStatus());
-        response.setMessage(app.getMessage());
-        response.setUpdatedAt(app.getUpdatedAt());
-        response.setCreatedAt(app.getCreatedAt());
-
-        User applicant = userRepository.findById(app.getApplicantId()).orElse(null);
-        response.setApplicantEmail(applicant != null ? applicant.getEmail() : null);
-        Audition audition = auditionMap.get(app.getAuditionId());
-        response.setAuditionTitle(audition != null ? audition.getTitle() : null);
-        return response;
-    }
-
+    @Transactional(readOnly = true)
     public AgencyDashboardResponse getAgencyDashboard() {
-        UUID userId = SecurityUtils.getCurrentUserId();
-        if (userId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
-        }
-        if (!SecurityUtils.hasRole("AGENCY") && !SecurityUtils.hasRole("ADMIN")) {
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
+        if (!principal.hasAnyRole(Role.AGENCY, Role.ADMIN)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only AGENCY or ADMIN can view this dashboard");
         }
 
-        List<Audition> ownedAuditions;
-        if (SecurityUtils.hasRole("ADMIN")) {
-            ownedAuditions = auditionRepository.findAllByOrderByCreatedAtDesc();
-        } else {
-            ownedAuditions = auditionRepository.findByOwnerIdOrderByCreatedAtDesc(userId);
-        }
-        List<UUID> auditionIds = ownedAuditions.stream().map(Audition::getId).collect(Collectors.toList());
-
-        long totalApplications = auditionIds.isEmpty() ? 0 : applicationRepository.countByAuditionIdIn(auditionIds);
-        long accepted = auditionIds.isEmpty() ? 0 : applicationRepository.countByStatusAndAuditionIdIn("ACCEPTED", auditionIds);
-        long rejected = auditionIds.isEmpty() ? 0 : applicationRepository.countByStatusAndAuditionIdIn("REJECTED", auditionIds);
-        long reviewed = auditionIds.isEmpty() ? 0 : applicationRepository.countByStatusAndAuditionIdIn("REVIEWED", auditionIds);
-        long submitted = auditionIds.isEmpty() ? 0 : applicationRepository.countByStatusAndAuditionIdIn("SUBMITTED", auditionIds);
-
-        List<Application> recentApplications = auditionIds.isEmpty()
-                ? Collections.emptyList()
-                : applicationRepository.findTop10ByAuditionIdInOrderByCreatedAtDesc(auditionIds);
-
-        Map<UUID, Audition> auditionMap = ownedAuditions.stream()
-                .collect(Collectors.toMap(Audition::getId, a -> a, (a, b) -> a));
-
+        // ADMIN sees the whole platform; application counts come from audition_stats, the rest are
+        // aggregates or bounded top-N queries. The four reads are independent and run concurrently.
+        boolean admin = principal.isAdmin();
+        UUID ownerId = principal.userId();
         AgencyDashboardResponse response = new AgencyDashboardResponse();
-        response.setTotalAuditions(ownedAuditions.size());
-        response.setOpenAuditions(ownedAuditions.stream().filter(a -> "OPEN".equals(a.getStatus())).count());
-        response.setTotalApplications(totalApplications);
-        response.setAccepted(accepted);
-        response.setRejected(rejected);
-        response.setPending(reviewed + submitted);
-        response.setRecentAuditions(ownedAuditions.stream().limit(5).map(DashboardService::toAuditionResponse).collect(Collectors.toList()));
-        response.setRecentApplications(recentApplications.stream().map(app -> toApplicationResponse(app, auditionMap)).collect(Collectors.toList()));
+        try (ParallelReads.Scope scope = parallelReads.open()) {
+            ParallelReads.Subtask<AuditionCounts> auditionCounts = scope.fork(() -> admin
+                    ? auditionRepository.countAllByStatus()
+                    : auditionRepository.countByStatusForOwner(ownerId));
+            ParallelReads.Subtask<AuditionStatsTotals> applicationCounts = scope.fork(() -> admin
+                    ? auditionStatsService.totals()
+                    : auditionStatsService.totalsForOwner(ownerId));
+            ParallelReads.Subtask<List<AuditionResponse>> recentAuditions = scope.fork(() -> (admin
+                    ? auditionRepository.findTop5ByOrderByCreatedAtDesc()
+                    : auditionRepository.findTop5ByOwnerIdOrderByCreatedAtDesc(ownerId)).stream()
+                    .map(DashboardService::toAuditionResponse)
+                    .collect(Collectors.toList()));
+            ParallelReads.Subtask<List<ApplicationResponse>> recentApplications = scope.fork(() -> (admin
+                    ? applicationRepository.findRecentViews(RECENT_APPLICATIONS)
+                    : applicationRepository.findRecentViewsByOwnerId(ownerId, RECENT_APPLICATIONS)).stream()
+                    .map(ApplicationService::toResponse)
+                    .collect(Collectors.toList()));
+            scope.join();
+
+            AuditionStatsTotals totals = applicationCounts.get();
+            response.setTotalAuditions(auditionCounts.get().total());
+            response.setOpenAuditions(auditionCounts.get().open());
+            response.setTotalApplications(totals.applications());
+            response.setAccepted(totals.accepted());
+            response.setRejected(totals.rejected());
+            response.setPending(totals.reviewed() + totals.submitted());
+            response.setRecentAuditions(recentAuditions.get());
+            response.setRecentApplications(recentApplications.get());
+        }
         return response;
     }
 
+    @Transactional(readOnly = true)
     public ApplicantDashboardResponse getApplicantDashboard() {
-        UUID userId = SecurityUtils.getCurrentUserId();
-        if (userId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
-        }
-        if (!SecurityUtils.hasRole("APPLICANT") && !SecurityUtils.hasRole("ADMIN")) {
+        AuthPrincipal principal = SecurityUtils.requirePrincipal();
+        if (!principal.hasAnyRole(Role.APPLICANT, Role.ADMIN)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only APPLICANT can view this dashboard");
         }
-
-        List<Application> recentApplications = applicationRepository.findTop10ByApplicantIdOrderByCreatedAtDesc(userId);
-        List<UUID> applicationIds = applicationRepository.findByApplicantIdOrderByCreatedAtDesc(userId).stream()
-                .map(Application::getId)
-                .collect(Collectors.toList());
-        long videosCount = 0;
-        if (!applicationIds.isEmpty()) {
-            for (UUID applicationId : applicationIds) {
-                videosCount += applicationVideoRepository.findByApplicationIdOrderByCreatedAtDesc(applicationId).size();
-            }
-        }
-
-        List<UUID> auditionIds = recentApplications.stream().map(Application::getAuditionId).distinct().collect(Collectors.toList());
-        Map<UUID, Audition> auditionMap = auditionIds.isEmpty()
-                ? Collections.emptyMap()
-                : auditionRepository.findAllById(auditionIds).stream().collect(Collectors.toMap(Audition::getId, a -> a));
+        UUID userId = principal.userId();
 
         ApplicantDashboardResponse response = new ApplicantDashboardResponse();
-        response.setApplied(applicationRepository.countByApplicantId(userId));
-        response.setReviewed(applicationRepository.countByApplicantIdAndStatus(userId, "REVIEWED"));
-        response.setAccepted(applicationRepository.countByApplicantIdAndStatus(userId, "ACCEPTED"));
-        response.setRejected(applicationRepository.countByApplicantIdAndStatus(userId, "REJECTED"));
-        response.setVideosCount(videosCount);
-        response.setRecentApplications(recentApplications.stream().map(app -> toApplicationResponse(app, auditionMap)).collect(Collectors.toList()));
+        try (ParallelReads.Scope scope = parallelReads.open()) {
+            ParallelReads.Subtask<Map<String, Long>> applicationCounts = scope.fork(() ->
+                    byStatus(applicationRepository.countByStatusForApplicant(userId)));
+            ParallelReads.Subtask<Long> videosCount = scope.fork(() -> applicationVideoRepository.countByApplicantId(userId));
+            ParallelReads.Subtask<List<ApplicationResponse>> recentApplications = scope.fork(() ->
+                    applicationRepository.findRecentViewsByApplicantId(userId, RECENT_APPLICATIONS).stream()
+                            .map(ApplicationService::toResponse)
+                            .collect(Collectors.toList()));
+            scope.join();
+
+            Map<String, Long> counts = applicationCounts.get();
+            response.setApplied(counts.values().stream().mapToLong(Long::longValue).sum());
+            response.setReviewed(counts.getOrDefault("REVIEWED", 0L));
+            response.setAccepted(counts.getOrDefault("ACCEPTED", 0L));
+            response.setRejected(counts.getOrDefault("REJECTED", 0L));
+            response.setVideosCount(videosCount.get());
+            response.setRecentApplications(recentApplications.get());
+        }
         return response;
     }
+
+    private static Map<String, Long> byStatus(List<StatusCount> counts) {
+        return counts.stream().collect(Collectors.toMap(StatusCount::status, StatusCount::count));
+    }
 }
@@ -0,0 +1,37 @@
+package com.audition.platform.application;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts second-level cache entries for rows written behind Hibernate's back (native UPDATEs), which
+ * it cannot track itself. Writes through the entity manager keep the cache current without this.
+ */
+@Component
+public class EntityCaches {
+
+    private final Cache cache;
+
+    public EntityCaches(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.getCache();
+    }
+
+    /**
+     * Evicts now and again when the surrounding transaction ends, so a read that re-cached the old row
+     * in between (or a rolled-back write) cannot leave a stale entry behind.
+     */
+    public void evict(Class<?> entityType, Object id) {
+        cache.evict(entityType, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evict(entityType, id);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.audition.platform.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque position in a list ordered by {@code (timestamp, id)}. The cursor carries the {@link Sort} it was
+ * issued for, and a cursor presented with a different sort is rejected (422) instead of being read against
+ * the wrong column. The first page starts from {@link #start}, which sorts ahead of every real row, so a
+ * single query shape serves every page.
+ */
+record KeysetCursor(Sort sort, Instant at, UUID id) {
+
+    enum Sort {
+        CREATED_AT_DESC("createdAt:desc", false),
+        DEADLINE_AT_ASC("deadlineAt:asc", true);
+
+        private final String token;
+        private final boolean ascending;
+
+        Sort(String token, boolean ascending) {
+            this.token = token;
+            this.ascending = ascending;
+        }
+    }
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 200;
+
+    static KeysetCursor start(Sort sort) {
+        return sort.ascending
+                ? new KeysetCursor(sort, Instant.parse("0001-01-01T00:00:00Z"), new UUID(0L, 0L))
+                : new KeysetCursor(sort, Instant.parse("9999-12-31T23:59:59Z"), new UUID(-1L, -1L));
+    }
+
+    static KeysetCursor decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return start(sort);
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+        if (parts.length != 3) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+        if (!sort.token.equals(parts[0])) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "cursor was issued for a different sort than " + sort.token);
+        }
+        try {
+            String[] instant = parts[1].split("\\.");
+            return new KeysetCursor(sort,
+                    Instant.ofEpochSecond(Long.parseLong(instant[0]), Long.parseLong(instant[1])),
+                    UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    static int clampLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "limit must be positive");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    String encode() {
+        String raw = sort.token + "|" + at.getEpochSecond() + "." + at.getNano() + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
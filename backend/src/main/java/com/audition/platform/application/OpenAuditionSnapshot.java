@@ -0,0 +1,219 @@
+package com.audition.platform.application;
+
+import com.audition.platform.api.dto.AuditionResponse;
+import com.audition.platform.domain.audition.AuditionRepository;
+import com.audition.platform.infra.ETags;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable, pre-serialized first page of the OPEN audition catalog ({@code GET /api/auditions} with no
+ * filters or cursor, at the default page size), byte-for-byte what the keyset query would return. Every
+ * OPEN row is kept so the page refills when one of its entries closes.
+ * Local writes are applied incrementally after commit (only the changed row is re-serialized); a
+ * periodic full reconcile picks up changes made on other nodes. Local writes that land while a reconcile
+ * is reading are replayed onto the fresh load, unless the loaded row is already at a later version.
+ */
+@Component
+public class OpenAuditionSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenAuditionSnapshot.class);
+
+    private static final Comparator<Entry> NEWEST_FIRST = Comparator
+            .comparing((Entry e) -> e.audition().getCreatedAt(), Comparator.reverseOrder())
+            .thenComparing(e -> e.audition().getId(), Comparator.reverseOrder());
+
+    private record Entry(AuditionResponse audition, byte[] json) {}
+
+    /** Number of auditions in the pre-serialized page. */
+    public static final int PAGE_SIZE = KeysetCursor.DEFAULT_LIMIT;
+
+    /** Serialized page, the cursor for the next one ({@code null} on the last page) and a strong ETag over both. */
+    public record Payload(byte[] json, String nextCursor, String etag) {}
+
+    private record Snapshot(List<Entry> entries, Payload payload) {}
+
+    private record Write(long generation, AuditionResponse audition) {}
+
+    private final AuditionRepository auditionRepository;
+    private final ObjectMapper objectMapper;
+    private final Object firstBuild = new Object();
+    // guarded by this: writes applied since the last reconcile installed its load
+    private final List<Write> recentWrites = new ArrayList<>();
+    private long generation;
+    private volatile Snapshot snapshot;
+
+    public OpenAuditionSnapshot(AuditionRepository auditionRepository,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.auditionRepository = auditionRepository;
+        this.objectMapper = objectMapper;
+        Gauge.builder("audition.open-snapshot.size", this, s -> s.snapshot != null ? s.snapshot.entries().size() : 0)
+                .register(meterRegistry);
+    }
+
+    /** True if a first-page request with this {@code limit} gets exactly the pre-serialized page. */
+    public static boolean coversLimit(Integer limit) {
+        return limit == null || limit == PAGE_SIZE;
+    }
+
+    /**
+     * First page of OPEN auditions, newest first. Built on first use if the reconcile has not run yet;
+     * concurrent first callers wait for one build instead of each loading the table.
+     */
+    public Payload payload() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            synchronized (firstBuild) {
+                if (snapshot == null) {
+                    reconcile();
+                }
+            }
+            s = snapshot;
+        }
+        return s.payload();
+    }
+
+    /** Applies a create/update once the surrounding transaction commits (immediately if there is none). */
+    public void publish(AuditionResponse audition) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(audition);
+                }
+            });
+        } else {
+            apply(audition);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.catalog.snapshot.reconcile-ms:30000}")
+    public void reconcile() {
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = generation;
+        }
+        try {
+            List<Entry> entries = new ArrayList<>();
+            for (var audition : auditionRepository.findByStatusOrderByCreatedAtDesc("OPEN")) {
+                entries.add(toEntry(AuditionService.toResponse(audition)));
+            }
+            synchronized (this) {
+                // Local writes that landed while we were reading may be missing from this load.
+                for (Write write : recentWrites) {
+                    if (write.generation() > startGeneration) {
+                        merge(entries, write.audition());
+                    }
+                }
+                recentWrites.clear();
+                entries.sort(NEWEST_FIRST);
+                snapshot = new Snapshot(List.copyOf(entries), toPayload(entries));
+                generation++;
+            }
+        } catch (RuntimeException e) {
+            if (snapshot == null) {
+                throw e;
+            }
+            // keep serving the previous snapshot; the next run retries
+            log.warn("[OpenAuditionSnapshot] reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void apply(AuditionResponse audition) {
+        generation++;
+        recentWrites.add(new Write(generation, audition));
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        List<Entry> entries = new ArrayList<>(current.entries());
+        merge(entries, audition);
+        entries.sort(NEWEST_FIRST);
+        snapshot = new Snapshot(List.copyOf(entries), toPayload(entries));
+    }
+
+    /** Replaces (or removes, once no longer OPEN) the audition's entry unless the list holds a later version. */
+    private void merge(List<Entry> entries, AuditionResponse audition) {
+        UUID id = audition.getId();
+        for (int i = 0; i < entries.size(); i++) {
+            AuditionResponse existing = entries.get(i).audition();
+            if (existing.getId().equals(id)) {
+                if (isNewer(existing, audition)) {
+                    return;
+                }
+                entries.remove(i);
+                break;
+            }
+        }
+        if ("OPEN".equals(audition.getStatus())) {
+            entries.add(toEntry(audition));
+        }
+    }
+
+    private static boolean isNewer(AuditionResponse a, AuditionResponse b) {
+        if (a.getVersion() != null && b.getVersion() != null) {
+            return a.getVersion() > b.getVersion();
+        }
+        return a.getUpdatedAt() != null && b.getUpdatedAt() != null && a.getUpdatedAt().isAfter(b.getUpdatedAt());
+    }
+
+    private Entry toEntry(AuditionResponse audition) {
+        try {
+            return new Entry(audition, objectMapper.writeValueAsBytes(audition));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize audition " + audition.getId(), e);
+        }
+    }
+
+    private static Payload toPayload(List<Entry> entries) {
+        List<Entry> page = entries.subList(0, Math.min(PAGE_SIZE, entries.size()));
+        String nextCursor = null;
+        if (entries.size() > PAGE_SIZE) {
+            AuditionResponse last = page.get(PAGE_SIZE - 1).audition();
+            nextCursor = new KeysetCursor(KeysetCursor.Sort.CREATED_AT_DESC, last.getCreatedAt(), last.getId()).encode();
+        }
+        byte[] json = join(page);
+        return new Payload(json, nextCursor, ETags.of(nextCursor == null ? json : concat(json, nextCursor)));
+    }
+
+    private static byte[] concat(byte[] json, String nextCursor) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length + 1 + nextCursor.length());
+        out.writeBytes(json);
+        out.write('\n');
+        out.writeBytes(nextCursor.getBytes(StandardCharsets.US_ASCII));
+        return out.toByteArray();
+    }
+
+    private static byte[] join(List<Entry> entries) {
+        int size = 2 + Math.max(0, entries.size() - 1);
+        for (Entry e : entries) {
+            size += e.json().length;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        out.write('[');
+        for (int i = 0; i < entries.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(entries.get(i).json());
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+}
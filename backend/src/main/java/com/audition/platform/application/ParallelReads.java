@@ -0,0 +1,241 @@
+package com.audition.platform.application;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent read-only queries concurrently, so a request costs its slowest query instead of
+ * the sum of round trips. Usage:
+ *
+ * <pre>
+ * try (ParallelReads.Scope scope = parallelReads.open()) {
+ *     ParallelReads.Subtask&lt;A&gt; a = scope.fork(() -&gt; repoA.query());
+ *     ParallelReads.Subtask&lt;B&gt; b = scope.fork(() -&gt; repoB.query());
+ *     scope.join();
+ *     use(a.get(), b.get());
+ * }
+ * </pre>
+ *
+ * Each subtask runs in its own read-only transaction with the caller's security context. The first
+ * failure cancels its siblings and is rethrown from {@link Scope#join()}. Concurrency is capped by a
+ * budget derived from the connection pool; when the budget is spent a subtask simply runs on the
+ * caller's thread, so fan-out can never starve the pool.
+ */
+@Component
+public class ParallelReads {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelReads.class);
+
+    private final ExecutorService executor;
+    private final Semaphore budget;
+    private final TransactionTemplate readOnly;
+    private final long timeoutMs;
+
+    public ParallelReads(PlatformTransactionManager transactionManager,
+                         @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                         @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled,
+                         @Value("${app.datasource.replica.hikari.maximum-pool-size:10}") int replicaPoolSize,
+                         @Value("${app.parallel-reads.pool-share:0.5}") double poolShare,
+                         @Value("${app.parallel-reads.timeout-ms:5000}") long timeoutMs) {
+        // subtasks normally hit the replica, but a user inside the sticky window reads from the primary
+        int readPoolSize = replicaEnabled ? Math.min(poolSize, replicaPoolSize) : poolSize;
+        int permits = Math.max(1, (int) Math.floor(readPoolSize * poolShare));
+        this.executor = newExecutor(permits);
+        this.budget = new Semaphore(permits);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.timeoutMs = timeoutMs;
+    }
+
+    public Scope open() {
+        return new Scope();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Virtual threads when the runtime has them (JDK 21+); the build targets 17, hence reflection.
+    // The budget semaphore, not the executor, bounds concurrency, so the platform pool only needs
+    // as many threads as there are permits.
+    private static ExecutorService newExecutor(int permits) {
+        try {
+            ExecutorService virtual = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            log.info("[ParallelReads] using virtual threads, {} concurrent queries", permits);
+            return virtual;
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger seq = new AtomicInteger();
+            log.info("[ParallelReads] using {} platform threads", permits);
+            return Executors.newFixedThreadPool(permits, r -> {
+                Thread t = new Thread(r, "parallel-reads-" + seq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    public static final class Subtask<T> {
+        private final Future<T> future;
+
+        private Subtask(Future<T> future) {
+            this.future = future;
+        }
+
+        /** Result of the subtask; only valid after {@link Scope#join()} returned normally. */
+        public T get() {
+            if (!future.isDone()) {
+                throw new IllegalStateException("Subtask read before Scope.join()");
+            }
+            try {
+                return future.get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    public final class Scope implements AutoCloseable {
+        private final SecurityContext securityContext = SecurityContextHolder.getContext();
+        private final List<Future<?>> forked = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private Scope() {
+        }
+
+        public <T> Subtask<T> fork(Supplier<T> query) {
+            if (failure.get() != null) {
+                // a sibling already failed; join() rethrows that failure
+                CompletableFuture<T> skipped = new CompletableFuture<>();
+                skipped.cancel(false);
+                return new Subtask<>(skipped);
+            }
+            if (budget.tryAcquire()) {
+                FutureTask<T> task = newTask(query);
+                try {
+                    executor.execute(task);
+                    forked.add(task);
+                    return new Subtask<>(task);
+                } catch (RejectedExecutionException e) {
+                    budget.release();
+                }
+            }
+            CompletableFuture<T> inline = new CompletableFuture<>();
+            try {
+                inline.complete(readOnly.execute(status -> query.get()));
+            } catch (RuntimeException e) {
+                inline.completeExceptionally(e);
+                fail(e);
+            }
+            forked.add(inline);
+            return new Subtask<>(inline);
+        }
+
+        /** Waits for every subtask; rethrows the first failure after cancelling the rest. */
+        public void join() {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            for (Future<?> future : forked) {
+                if (failure.get() != null) {
+                    break;
+                }
+                try {
+                    future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    fail(e.getCause());
+                } catch (CancellationException e) {
+                    // cancelled because a sibling failed; that failure is rethrown below
+                } catch (TimeoutException e) {
+                    fail(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Query timed out, please retry"));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    fail(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Query interrupted"));
+                }
+            }
+            Throwable cause = failure.get();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error err) {
+                throw err;
+            }
+            if (cause != null) {
+                throw new IllegalStateException(cause);
+            }
+        }
+
+        @Override
+        public void close() {
+            forked.forEach(f -> f.cancel(true));
+        }
+
+        // The permit is held for as long as the query may hold a connection. Whoever claims the task
+        // first releases it: the callable when the query finishes, or done() when the task was cancelled
+        // before the callable got going, in which case the callable must not start the query at all.
+        private <T> FutureTask<T> newTask(Supplier<T> query) {
+            AtomicBoolean claimed = new AtomicBoolean();
+            return new FutureTask<>(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    throw new CancellationException();
+                }
+                try {
+                    return runInContext(query);
+                } finally {
+                    budget.release();
+                }
+            }) {
+                @Override
+                protected void done() {
+                    if (claimed.compareAndSet(false, true)) {
+                        budget.release();
+                    }
+                }
+            };
+        }
+
+        private <T> T runInContext(Supplier<T> query) {
+            SecurityContextHolder.setContext(securityContext);
+            try {
+                return readOnly.execute(status -> query.get());
+            } catch (RuntimeException | Error e) {
+                fail(e);
+                throw e;
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }
+
+        private void fail(Throwable cause) {
+            if (failure.compareAndSet(null, cause)) {
+                forked.forEach(f -> f.cancel(true));
+            }
+        }
+    }
+}
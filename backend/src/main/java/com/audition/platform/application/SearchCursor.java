@@ -0,0 +1,35 @@
+package com.audition.platform.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque position in a ranked search ordered by {@code (rank DESC, id DESC)}. The rank is carried as
+ * raw float bits so the next page compares against exactly the value Postgres returned.
+ */
+record SearchCursor(float rank, UUID id) {
+
+    static final SearchCursor START = new SearchCursor(Float.MAX_VALUE, new UUID(-1L, -1L));
+
+    static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new SearchCursor(Float.intBitsToFloat(Integer.parseInt(parts[0])), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = Float.floatToIntBits(rank) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
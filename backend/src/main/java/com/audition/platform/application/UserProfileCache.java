@@ -0,0 +1,48 @@
+package com.audition.platform.application;
+
+import com.audition.platform.domain.user.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Small per-user profile cache backing {@code /api/auth/me}. Writers that change a user's profile or role
+ * must call {@link #invalidate(UUID)}; the TTL only bounds staleness from other nodes.
+ */
+@Component
+public class UserProfileCache {
+
+    public record Profile(UUID userId, String email, String role, String name, String profileImageUrl) {
+        static Profile of(User user) {
+            return new Profile(user.getId(), user.getEmail(), user.getRole(), user.getName(), user.getProfileImageUrl());
+        }
+    }
+
+    private final Cache<UUID, Profile> cache;
+
+    public UserProfileCache(MeterRegistry meterRegistry,
+                            @Value("${app.cache.user-profile.max-size:10000}") long maxSize,
+                            @Value("${app.cache.user-profile.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.profile");
+    }
+
+    public Profile get(UUID userId, Function<UUID, Profile> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void invalidate(UUID userId) {
+        cache.invalidate(userId);
+    }
+}
@@ -0,0 +1,82 @@
+package com.audition.platform.config;
+
+import com.audition.platform.infra.ConnectionGate;
+import com.audition.platform.infra.ReadWriteRoutingDataSource;
+import com.audition.platform.infra.ReadYourWrites;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Connection pools. The primary takes {@code spring.datasource.*} as before. With
+ * {@code app.datasource.replica.enabled}, {@code @Transactional(readOnly = true)} work goes to the replica
+ * pool unless the current user wrote within the sticky window ({@link ReadYourWrites}). Either way the
+ * application sees a lazy proxy, so a transaction only takes a pooled connection when it runs a statement.
+ * With virtual threads ({@code spring.threads.virtual.enabled}) each pool also sits behind a
+ * {@link ConnectionGate} sized to it.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username:${spring.datasource.username}}") String username,
+                                              @Value("${app.datasource.replica.password:${spring.datasource.password}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                 @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replica,
+                                 ReadYourWrites readYourWrites,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.datasource.gate.enabled:${spring.threads.virtual.enabled:false}}") boolean gated,
+                                 @Value("${app.datasource.gate.timeout:5s}") Duration gateTimeout) {
+        DataSource primaryTarget = gated ? gate(primary, gateTimeout, meterRegistry) : primary;
+        HikariDataSource replicaPool = replica.getIfAvailable();
+        if (replicaPool == null) {
+            return new LazyConnectionDataSourceProxy(primaryTarget);
+        }
+        DataSource replicaTarget = gated ? gate(replicaPool, gateTimeout, meterRegistry) : replicaPool;
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primaryTarget, replicaTarget, readYourWrites));
+    }
+
+    // Runs after the pool's @ConfigurationProperties binding, so the size is the configured one.
+    private static DataSource gate(HikariDataSource pool, Duration timeout, MeterRegistry meterRegistry) {
+        return new ConnectionGate(pool, pool.getPoolName(), pool.getMaximumPoolSize(), timeout, meterRegistry);
+    }
+}
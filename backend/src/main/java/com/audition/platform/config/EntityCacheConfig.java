@@ -0,0 +1,62 @@
+package com.audition.platform.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache for the entities that are read by id on almost every request
+ * ({@code Audition}, {@code User}). Node-local Caffeine regions behind JCache, bounded by size and TTL;
+ * the TTL is what bounds staleness after another node writes. Hit/miss counts are published as
+ * {@code cache.gets{cache=auditions|users}}.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    public static final String AUDITIONS = "auditions";
+    public static final String USERS = "users";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(MeterRegistry meterRegistry,
+                                           @Value("${app.cache.entities.auditions.max-size:10000}") long auditionsMaxSize,
+                                           @Value("${app.cache.entities.auditions.ttl:60s}") Duration auditionsTtl,
+                                           @Value("${app.cache.entities.users.max-size:10000}") long usersMaxSize,
+                                           @Value("${app.cache.entities.users.ttl:5m}") Duration usersTtl) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(AUDITIONS, region(auditionsMaxSize, auditionsTtl)));
+        JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(USERS, region(usersMaxSize, usersTtl)));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheProperties(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            // a region without a cache here is a mapping mistake, not something to create on the fly
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
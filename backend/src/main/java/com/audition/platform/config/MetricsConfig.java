@@ -0,0 +1,34 @@
+package com.audition.platform.config;
+
+import com.audition.platform.infra.AuthPrincipal;
+import com.audition.platform.infra.JwtAuthFilter;
+import io.micrometer.common.KeyValues;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.lang.NonNull;
+
+/**
+ * Request metrics. {@code http.server.requests} already carries the route template ({@code uri}), method,
+ * status and outcome; this adds the caller's role. Histograms and SLO buckets are configured under
+ * {@code management.metrics.distribution}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            @NonNull
+            public KeyValues getLowCardinalityKeyValues(@NonNull ServerRequestObservationContext context) {
+                // the security context is already cleared when the observation stops
+                Object principal = context.getCarrier().getAttribute(JwtAuthFilter.PRINCIPAL_ATTRIBUTE);
+                return super.getLowCardinalityKeyValues(context).and("role",
+                        principal instanceof AuthPrincipal p ? p.roleTag() : "ANONYMOUS");
+            }
+        };
+    }
+}
@@ -21,6 +21,7 @@ public class WebConfig implements WebMvcConfigurer {
             .allowedOrigins(Objects.requireNonNull(parseAllowedOrigins()))
             .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
             .allowedHeaders("*")
+            .exposedHeaders("X-Next-Cursor", "Idempotent-Replayed", "ETag")
             .allowCredentials(true)
             .maxAge(3600);
     }
@@ -1,8 +1,8 @@
 package com.audition.platform.domain.audition;
 
+import com.audition.platform.domain.common.TimeOrderedId;
 import com.audition.platform.domain.user.User;
 import jakarta.persistence.*;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -12,7 +12,7 @@ import java.util.UUID;
 public class Application {
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
+    @TimeOrderedId
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -42,6 +42,10 @@ public class Application {
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt = Instant.now();
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
     public UUID getAuditionId() { return auditionId; }
@@ -60,4 +64,6 @@ public class Application {
     public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
     public Instant getCreatedAt() { return createdAt; }
     public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
 }
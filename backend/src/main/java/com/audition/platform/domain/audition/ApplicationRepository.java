@@ -1,15 +1,102 @@
 package com.audition.platform.domain.audition;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ApplicationRepository extends JpaRepository<Application, UUID> {
 
+    String VIEW_SELECT = "select new com.audition.platform.domain.audition.ApplicationView("
+            + "a.id, a.auditionId, a.applicantId, u.email, a.status, a.message, a.updatedAt, a.createdAt, au.title, a.version) "
+            + "from Application a left join a.audition au left join a.applicant u ";
+
+    // Rows strictly after (createdAt, id) in (created_at DESC, id DESC) order. The leading
+    // "createdAt <=" term is the index range bound; the rest only breaks ties.
+    String KEYSET_AFTER = "a.createdAt <= :createdAt and (a.createdAt < :createdAt or a.id < :id) ";
+
     List<Application> findByAuditionIdOrderByCreatedAtDesc(UUID auditionId);
 
+    /**
+     * Moves one application to {@code status} in a single statement, provided the caller owns its audition
+     * (or is admin), the current status is one of {@code from} and, when given, the version matches.
+     * The {@code prev} subquery locks the row first so the returned previous status is the one replaced.
+     * Empty when nothing matched; the caller then works out why.
+     */
+    @Query(value = """
+            UPDATE public.applications ap
+            SET status = :status, updated_at = now(), version = ap.version + 1
+            FROM (SELECT id, status FROM public.applications WHERE id = :id FOR UPDATE) prev,
+                 public.auditions au
+            WHERE ap.id = prev.id
+              AND au.id = ap.audition_id
+              AND (au.owner_id = :userId OR :admin)
+              AND prev.status IN (:from)
+              AND (CAST(:expectedVersion AS bigint) IS NULL OR ap.version = CAST(:expectedVersion AS bigint))
+            RETURNING ap.id AS "id", ap.audition_id AS "auditionId", ap.applicant_id AS "applicantId",
+                      (SELECT u.email FROM public.users u WHERE u.id = ap.applicant_id) AS "applicantEmail",
+                      ap.status AS "status", prev.status AS "previousStatus", ap.message AS "message",
+                      ap.updated_at AS "updatedAt", ap.created_at AS "createdAt",
+                      au.title AS "auditionTitle", ap.version AS "version"
+            """, nativeQuery = true)
+    Optional<ApplicationTransition> transitionStatus(@Param("id") UUID id,
+                                                     @Param("status") String status,
+                                                     @Param("from") List<String> from,
+                                                     @Param("userId") UUID userId,
+                                                     @Param("admin") boolean admin,
+                                                     @Param("expectedVersion") Long expectedVersion);
+
+    // Locks in id order so two overlapping bulk decisions cannot deadlock each other.
+    @Query(value = "SELECT id, status FROM public.applications WHERE audition_id = :auditionId AND id IN (:ids) "
+            + "ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<ApplicationStatusRow> lockStatusesForUpdate(@Param("auditionId") UUID auditionId, @Param("ids") List<UUID> ids);
+
+    @Modifying
+    @Query("update Application a set a.status = :status, a.updatedAt = :updatedAt, a.version = a.version + 1 "
+            + "where a.id in :ids and a.status in :from")
+    int updateStatusByIds(@Param("ids") List<UUID> ids,
+                          @Param("status") String status,
+                          @Param("from") List<String> from,
+                          @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Creates a SUBMITTED application if the audition is OPEN and the applicant has not applied yet, in one
+     * round trip. The unique (audition_id, applicant_id) constraint arbitrates concurrent applies: the loser
+     * inserts nothing instead of failing. The id comes from the column default (uuid_generate_v7).
+     * Not {@code @Modifying}: the statement returns a row, so it runs as a query.
+     */
+    @Query(value = """
+            WITH target AS (
+              SELECT id, status FROM public.auditions WHERE id = :auditionId
+            ), applicant AS (
+              SELECT id, email FROM public.users WHERE id = :applicantId
+            ), ins AS (
+              INSERT INTO public.applications (audition_id, applicant_id, status, updated_at, created_at)
+              SELECT t.id, u.id, 'SUBMITTED', now(), now()
+              FROM target t, applicant u
+              WHERE t.status = 'OPEN'
+              ON CONFLICT (audition_id, applicant_id) DO NOTHING
+              RETURNING id, created_at, updated_at
+            )
+            SELECT t.status AS "auditionStatus", u.email AS "applicantEmail",
+                   i.id AS "id", i.created_at AS "createdAt", i.updated_at AS "updatedAt"
+            FROM (SELECT 1) one
+            LEFT JOIN target t ON true
+            LEFT JOIN applicant u ON true
+            LEFT JOIN ins i ON true
+            """, nativeQuery = true)
+    ApplyResult insertIfOpen(@Param("auditionId") UUID auditionId, @Param("applicantId") UUID applicantId);
+
     Optional<Application> findByAuditionIdAndApplicantId(UUID auditionId, UUID applicantId);
 
     boolean existsByAuditionIdAndApplicantId(UUID auditionId, UUID applicantId);
@@ -20,11 +107,58 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
 
     long countByApplicantIdAndStatus(UUID applicantId, String status);
 
-    long countByStatusAndAuditionIdIn(String status, List<UUID> auditionIds);
+    String STATUS_COUNT_SELECT = "select new com.audition.platform.domain.audition.StatusCount(a.status, count(*)) "
+            + "from Application a ";
+
+    @Query(STATUS_COUNT_SELECT + "where a.applicantId = :applicantId group by a.status")
+    List<StatusCount> countByStatusForApplicant(@Param("applicantId") UUID applicantId);
+
+    @Query(VIEW_SELECT + "where a.auditionId = :auditionId and " + KEYSET_AFTER
+            + "order by a.createdAt desc, a.id desc")
+    List<ApplicationView> findViewPageByAuditionId(@Param("auditionId") UUID auditionId,
+                                                   @Param("createdAt") Instant createdAt,
+                                                   @Param("id") UUID id,
+                                                   Pageable pageable);
+
+    @Query(VIEW_SELECT + "where a.auditionId = :auditionId and a.status = :status and "
+            + KEYSET_AFTER + "order by a.createdAt desc, a.id desc")
+    List<ApplicationView> findViewPageByAuditionIdAndStatus(@Param("auditionId") UUID auditionId,
+                                                            @Param("status") String status,
+                                                            @Param("createdAt") Instant createdAt,
+                                                            @Param("id") UUID id,
+                                                            Pageable pageable);
+
+    @Query(VIEW_SELECT + "where a.applicantId = :applicantId and " + KEYSET_AFTER
+            + "order by a.createdAt desc, a.id desc")
+    List<ApplicationView> findViewPageByApplicantId(@Param("applicantId") UUID applicantId,
+                                                    @Param("createdAt") Instant createdAt,
+                                                    @Param("id") UUID id,
+                                                    Pageable pageable);
+
+    @Query(VIEW_SELECT + "where a.applicantId = :applicantId and a.status = :status and "
+            + KEYSET_AFTER + "order by a.createdAt desc, a.id desc")
+    List<ApplicationView> findViewPageByApplicantIdAndStatus(@Param("applicantId") UUID applicantId,
+                                                             @Param("status") String status,
+                                                             @Param("createdAt") Instant createdAt,
+                                                             @Param("id") UUID id,
+                                                             Pageable pageable);
+
+    @Query(VIEW_SELECT + "where a.applicantId = :applicantId order by a.createdAt desc")
+    List<ApplicationView> findRecentViewsByApplicantId(@Param("applicantId") UUID applicantId, Pageable pageable);
 
-    long countByAuditionIdIn(List<UUID> auditionIds);
+    @Query(VIEW_SELECT + "order by a.createdAt desc, a.id desc")
+    List<ApplicationView> findRecentViews(Pageable pageable);
 
-    List<Application> findTop10ByAuditionIdInOrderByCreatedAtDesc(List<UUID> auditionIds);
+    @Query(VIEW_SELECT + "where au.ownerId = :ownerId order by a.createdAt desc, a.id desc")
+    List<ApplicationView> findRecentViewsByOwnerId(@Param("ownerId") UUID ownerId, Pageable pageable);
 
-    List<Application> findTop10ByApplicantIdOrderByCreatedAtDesc(UUID applicantId);
+    // Server-side cursor: the Postgres driver only honours the fetch size inside a transaction,
+    // so callers must consume the stream within @Transactional and close it.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(VIEW_SELECT + "where a.auditionId = :auditionId and (:status is null or a.status = :status) "
+            + "order by a.createdAt desc, a.id desc")
+    Stream<ApplicationView> streamViewsByAuditionId(@Param("auditionId") UUID auditionId, @Param("status") String status);
 }
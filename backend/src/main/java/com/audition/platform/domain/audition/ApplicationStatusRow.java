@@ -0,0 +1,9 @@
+package com.audition.platform.domain.audition;
+
+import java.util.UUID;
+
+/** Native projection of an application's id and current status, used by the bulk decision path. */
+public interface ApplicationStatusRow {
+    UUID getId();
+    String getStatus();
+}
@@ -0,0 +1,19 @@
+package com.audition.platform.domain.audition;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** Row returned by a conditional status UPDATE: the application after the change plus its prior status. */
+public interface ApplicationTransition {
+    UUID getId();
+    UUID getAuditionId();
+    UUID getApplicantId();
+    String getApplicantEmail();
+    String getStatus();
+    String getPreviousStatus();
+    String getMessage();
+    Instant getUpdatedAt();
+    Instant getCreatedAt();
+    String getAuditionTitle();
+    Long getVersion();
+}
@@ -1,5 +1,6 @@
 package com.audition.platform.domain.audition;
 
+import com.audition.platform.domain.common.TimeOrderedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -7,7 +8,6 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -17,7 +17,7 @@ import java.util.UUID;
 public class ApplicationVideo {
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
+    @TimeOrderedId
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -1,6 +1,8 @@
 package com.audition.platform.domain.audition;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +13,7 @@ public interface ApplicationVideoRepository extends JpaRepository<ApplicationVid
     List<ApplicationVideo> findByApplicationIdOrderByCreatedAtDesc(UUID applicationId);
 
     Optional<ApplicationVideo> findByIdAndApplicationId(UUID id, UUID applicationId);
+
+    @Query("select count(*) from ApplicationVideo v join v.application a where a.applicantId = :applicantId")
+    long countByApplicantId(@Param("applicantId") UUID applicantId);
 }
@@ -0,0 +1,21 @@
+package com.audition.platform.domain.audition;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only projection of an application joined with its audition title and applicant email.
+ * Built by JPQL constructor expressions, so no entities are hydrated or tracked.
+ */
+public record ApplicationView(
+        UUID id,
+        UUID auditionId,
+        UUID applicantId,
+        String applicantEmail,
+        String status,
+        String message,
+        Instant updatedAt,
+        Instant createdAt,
+        String auditionTitle,
+        Long version) {
+}
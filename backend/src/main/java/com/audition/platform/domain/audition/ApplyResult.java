@@ -0,0 +1,17 @@
+package com.audition.platform.domain.audition;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Outcome of the single-statement apply. {@code auditionStatus} is null when the audition does not exist,
+ * {@code applicantEmail} is null when the applicant does not exist, and {@code id} is null when no row
+ * was inserted (audition not open, or already applied).
+ */
+public interface ApplyResult {
+    String getAuditionStatus();
+    String getApplicantEmail();
+    UUID getId();
+    Instant getCreatedAt();
+    Instant getUpdatedAt();
+}
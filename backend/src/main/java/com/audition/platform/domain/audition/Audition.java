@@ -1,18 +1,21 @@
 package com.audition.platform.domain.audition;
 
+import com.audition.platform.domain.common.TimeOrderedId;
 import com.audition.platform.domain.user.User;
 import jakarta.persistence.*;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.util.UUID;
 
 @Entity
 @Table(name = "auditions")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "auditions")
 public class Audition {
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
+    @TimeOrderedId
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -47,6 +50,10 @@ public class Audition {
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt = Instant.now();
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
     public UUID getOwnerId() { return ownerId; }
@@ -69,4 +76,6 @@ public class Audition {
     public void setCategory(String category) { this.category = category; }
     public Instant getCreatedAt() { return createdAt; }
     public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
 }
@@ -0,0 +1,3 @@
+package com.audition.platform.domain.audition;
+
+public record AuditionCounts(long total, long open) {}
@@ -1,11 +1,19 @@
 package com.audition.platform.domain.audition;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface AuditionRepository extends JpaRepository<Audition, UUID> {
+public interface AuditionRepository extends JpaRepository<Audition, UUID>, JpaSpecificationExecutor<Audition> {
 
     List<Audition> findAllByOrderByCreatedAtDesc();
 
@@ -13,7 +21,99 @@ public interface AuditionRepository extends JpaRepository<Audition, UUID> {
 
     List<Audition> findByOwnerIdOrderByCreatedAtDesc(UUID ownerId);
 
+    List<Audition> findTop5ByOrderByCreatedAtDesc();
+
+    List<Audition> findTop5ByOwnerIdOrderByCreatedAtDesc(UUID ownerId);
+
     long countByOwnerId(UUID ownerId);
 
+    @Query("select new com.audition.platform.domain.audition.AuditionCounts("
+            + "count(*), count(*) filter (where a.status = 'OPEN')) from Audition a")
+    AuditionCounts countAllByStatus();
+
+    @Query("select new com.audition.platform.domain.audition.AuditionCounts("
+            + "count(*), count(*) filter (where a.status = 'OPEN')) from Audition a where a.ownerId = :ownerId")
+    AuditionCounts countByStatusForOwner(@Param("ownerId") UUID ownerId);
+
     long countByOwnerIdAndStatus(UUID ownerId, String status);
+
+    /**
+     * Partial update in a single statement: null fields are left as they are, the deadline is only written
+     * when {@code setDeadline}. Applies only if the caller owns the audition (or is admin), a status change
+     * comes from one of {@code from}, and, when given, the version matches. Empty when nothing matched.
+     * The returned row is not put in the second-level cache; callers evict the cached entry instead.
+     */
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS"))
+    @Query(value = """
+            UPDATE public.auditions a SET
+              title = coalesce(CAST(:title AS text), a.title),
+              description = coalesce(CAST(:description AS text), a.description),
+              status = coalesce(CAST(:status AS text), a.status),
+              country_code = coalesce(CAST(:countryCode AS text), a.country_code),
+              category = coalesce(CAST(:category AS text), a.category),
+              deadline_at = CASE WHEN :setDeadline THEN CAST(:deadlineAt AS timestamptz) ELSE a.deadline_at END,
+              updated_at = now(),
+              version = a.version + 1
+            WHERE a.id = :id
+              AND (a.owner_id = :userId OR :admin)
+              AND (CAST(:status AS text) IS NULL OR a.status = CAST(:status AS text) OR a.status IN (:from))
+              AND (CAST(:expectedVersion AS bigint) IS NULL OR a.version = CAST(:expectedVersion AS bigint))
+            RETURNING a.*
+            """, nativeQuery = true)
+    Optional<Audition> updateIfAllowed(@Param("id") UUID id,
+                                       @Param("title") String title,
+                                       @Param("description") String description,
+                                       @Param("status") String status,
+                                       @Param("from") List<String> from,
+                                       @Param("countryCode") String countryCode,
+                                       @Param("category") String category,
+                                       @Param("setDeadline") boolean setDeadline,
+                                       @Param("deadlineAt") Instant deadlineAt,
+                                       @Param("userId") UUID userId,
+                                       @Param("admin") boolean admin,
+                                       @Param("expectedVersion") Long expectedVersion);
+
+    String SNIPPET_START = "\u0002";
+    String SNIPPET_STOP = "\u0003";
+
+    /**
+     * Ranked full-text search over the generated {@code search_vector} column, keyset-paginated on
+     * {@code (rank DESC, id DESC)}. Snippets are only computed for the rows of the returned page; matches
+     * are delimited by {@link #SNIPPET_START}/{@link #SNIPPET_STOP} (stripped from the source text first)
+     * so the caller can escape the text before turning them into markup.
+     */
+    @Query(value = """
+            SELECT s.id AS "id", s.owner_id AS "ownerId", s.title AS "title", s.description AS "description",
+                   s.status AS "status", s.updated_at AS "updatedAt", s.country_code AS "countryCode",
+                   s.deadline_at AS "deadlineAt", s.category AS "category", s.created_at AS "createdAt",
+                   s.rank AS "rank",
+                   ts_headline('simple',
+                               translate(coalesce(nullif(s.description, ''), s.title), chr(2) || chr(3), ''),
+                               s.query,
+                               'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', MaxWords=30, MinWords=10, MaxFragments=2'
+                   ) AS "snippet"
+            FROM (
+                SELECT m.*
+                FROM (
+                    SELECT a.*, q.query, ts_rank(a.search_vector, q.query) AS rank
+                    FROM public.auditions a
+                    CROSS JOIN websearch_to_tsquery('simple', :q) AS q(query)
+                    WHERE a.search_vector @@ q.query
+                      AND a.status = :status
+                      AND (CAST(:countryCode AS text) IS NULL OR a.country_code = :countryCode)
+                      AND (CAST(:category AS text) IS NULL OR a.category = :category)
+                ) m
+                WHERE m.rank < CAST(:rank AS real) OR (m.rank = CAST(:rank AS real) AND m.id < :id)
+                ORDER BY m.rank DESC, m.id DESC
+                LIMIT :limit
+            ) s
+            ORDER BY s.rank DESC, s.id DESC
+            """, nativeQuery = true)
+    List<AuditionSearchHit> search(@Param("q") String q,
+                                   @Param("status") String status,
+                                   @Param("countryCode") String countryCode,
+                                   @Param("category") String category,
+                                   @Param("rank") float rank,
+                                   @Param("id") UUID id,
+                                   @Param("limit") int limit);
 }
@@ -0,0 +1,20 @@
+package com.audition.platform.domain.audition;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** Native full-text search row: audition columns plus its rank and highlighted snippet. */
+public interface AuditionSearchHit {
+    UUID getId();
+    UUID getOwnerId();
+    String getTitle();
+    String getDescription();
+    String getStatus();
+    Instant getUpdatedAt();
+    String getCountryCode();
+    Instant getDeadlineAt();
+    String getCategory();
+    Instant getCreatedAt();
+    Float getRank();
+    String getSnippet();
+}
@@ -0,0 +1,61 @@
+package com.audition.platform.domain.audition;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Composable predicates for audition catalog queries. A {@code null} argument yields no predicate,
+ * so callers can chain every filter unconditionally.
+ */
+public final class AuditionSpecifications {
+
+    private AuditionSpecifications() {
+    }
+
+    public static Specification<Audition> hasStatus(String status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Audition> hasCountry(String countryCode) {
+        return (root, query, cb) -> countryCode == null ? null : cb.equal(root.get("countryCode"), countryCode);
+    }
+
+    public static Specification<Audition> hasCategory(String category) {
+        return (root, query, cb) -> category == null ? null : cb.equal(root.get("category"), category);
+    }
+
+    public static Specification<Audition> ownedBy(UUID ownerId) {
+        return (root, query, cb) -> ownerId == null ? null : cb.equal(root.get("ownerId"), ownerId);
+    }
+
+    public static Specification<Audition> deadlineFrom(Instant from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("deadlineAt"), from);
+    }
+
+    public static Specification<Audition> deadlineBefore(Instant to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThan(root.get("deadlineAt"), to);
+    }
+
+    public static Specification<Audition> hasDeadline() {
+        return (root, query, cb) -> cb.isNotNull(root.get("deadlineAt"));
+    }
+
+    /**
+     * Rows strictly after {@code (at, id)} in {@code (attribute DESC, id DESC)} order. Written as
+     * {@code attribute <= at AND (attribute < at OR id < id)} so the leading column stays sargable.
+     */
+    public static Specification<Audition> before(String attribute, Instant at, UUID id) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get(attribute), at),
+                cb.or(cb.lessThan(root.get(attribute), at), cb.lessThan(root.get("id"), id)));
+    }
+
+    /** Rows strictly after {@code (at, id)} in {@code (attribute ASC, id ASC)} order. */
+    public static Specification<Audition> after(String attribute, Instant at, UUID id) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get(attribute), at),
+                cb.or(cb.greaterThan(root.get(attribute), at), cb.greaterThan(root.get("id"), id)));
+    }
+}
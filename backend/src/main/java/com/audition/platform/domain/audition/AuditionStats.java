@@ -0,0 +1,83 @@
+package com.audition.platform.domain.audition;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * One shard of an audition's counters. The logical value of a counter is the sum over all shards;
+ * rows are only ever changed through additive upserts in {@link AuditionStatsRepository}.
+ */
+@Entity
+@Table(name = "audition_stats")
+@IdClass(AuditionStats.Key.class)
+public class AuditionStats {
+
+    @Id
+    @Column(name = "audition_id", nullable = false)
+    private UUID auditionId;
+
+    @Id
+    @Column(name = "shard", nullable = false)
+    private short shard;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "audition_id", insertable = false, updatable = false)
+    private Audition audition;
+
+    @Column(nullable = false)
+    private long submitted;
+
+    @Column(nullable = false)
+    private long reviewed;
+
+    @Column(nullable = false)
+    private long accepted;
+
+    @Column(nullable = false)
+    private long rejected;
+
+    @Column(nullable = false)
+    private long videos;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt = Instant.now();
+
+    public UUID getAuditionId() { return auditionId; }
+    public short getShard() { return shard; }
+    public Audition getAudition() { return audition; }
+    public long getSubmitted() { return submitted; }
+    public long getReviewed() { return reviewed; }
+    public long getAccepted() { return accepted; }
+    public long getRejected() { return rejected; }
+    public long getVideos() { return videos; }
+    public Instant getUpdatedAt() { return updatedAt; }
+
+    public static class Key implements Serializable {
+        private UUID auditionId;
+        private short shard;
+
+        public Key() {
+        }
+
+        public Key(UUID auditionId, short shard) {
+            this.auditionId = auditionId;
+            this.shard = shard;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return shard == other.shard && Objects.equals(auditionId, other.auditionId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(auditionId, shard);
+        }
+    }
+}
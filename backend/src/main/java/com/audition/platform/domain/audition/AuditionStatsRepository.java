@@ -0,0 +1,102 @@
+package com.audition.platform.domain.audition;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.UUID;
+
+// Native writes declare the table they touch; otherwise Hibernate clears every second-level cache region.
+public interface AuditionStatsRepository extends JpaRepository<AuditionStats, AuditionStats.Key> {
+
+    String TOTALS_SELECT = "select new com.audition.platform.domain.audition.AuditionStatsTotals("
+            + "coalesce(sum(s.submitted), 0), coalesce(sum(s.reviewed), 0), coalesce(sum(s.accepted), 0), "
+            + "coalesce(sum(s.rejected), 0), coalesce(sum(s.videos), 0)) from AuditionStats s ";
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "audition_stats"))
+    @Query(value = """
+            INSERT INTO public.audition_stats AS s (audition_id, shard, submitted, reviewed, accepted, rejected, videos, updated_at)
+            VALUES (:auditionId, :shard, :submitted, :reviewed, :accepted, :rejected, :videos, now())
+            ON CONFLICT (audition_id, shard) DO UPDATE SET
+              submitted = s.submitted + EXCLUDED.submitted,
+              reviewed = s.reviewed + EXCLUDED.reviewed,
+              accepted = s.accepted + EXCLUDED.accepted,
+              rejected = s.rejected + EXCLUDED.rejected,
+              videos = s.videos + EXCLUDED.videos,
+              updated_at = now()
+            """, nativeQuery = true)
+    int increment(@Param("auditionId") UUID auditionId,
+                  @Param("shard") short shard,
+                  @Param("submitted") long submitted,
+                  @Param("reviewed") long reviewed,
+                  @Param("accepted") long accepted,
+                  @Param("rejected") long rejected,
+                  @Param("videos") long videos);
+
+    @Query(TOTALS_SELECT)
+    AuditionStatsTotals totals();
+
+    @Query(TOTALS_SELECT + "join s.audition a where a.ownerId = :ownerId")
+    AuditionStatsTotals totalsForOwner(@Param("ownerId") UUID ownerId);
+
+    /**
+     * Recomputes every audition's counters from the source tables and adds the difference to shard 0.
+     * Truth and current counters are read by the same statement (one snapshot), and the correction is
+     * additive, so increments committed concurrently are neither lost nor double counted.
+     * Returns the number of auditions that had drifted.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "audition_stats"))
+    @Query(value = """
+            INSERT INTO public.audition_stats AS s (audition_id, shard, submitted, reviewed, accepted, rejected, videos, updated_at)
+            SELECT d.audition_id, 0, d.submitted, d.reviewed, d.accepted, d.rejected, d.videos, now()
+            FROM (
+              SELECT a.id AS audition_id,
+                     coalesce(t.submitted, 0) - coalesce(c.submitted, 0) AS submitted,
+                     coalesce(t.reviewed, 0) - coalesce(c.reviewed, 0) AS reviewed,
+                     coalesce(t.accepted, 0) - coalesce(c.accepted, 0) AS accepted,
+                     coalesce(t.rejected, 0) - coalesce(c.rejected, 0) AS rejected,
+                     coalesce(v.videos, 0) - coalesce(c.videos, 0) AS videos
+              FROM public.auditions a
+              LEFT JOIN (
+                SELECT audition_id,
+                       count(*) FILTER (WHERE status = 'SUBMITTED') AS submitted,
+                       count(*) FILTER (WHERE status = 'REVIEWED') AS reviewed,
+                       count(*) FILTER (WHERE status = 'ACCEPTED') AS accepted,
+                       count(*) FILTER (WHERE status = 'REJECTED') AS rejected
+                FROM public.applications
+                GROUP BY audition_id
+              ) t ON t.audition_id = a.id
+              LEFT JOIN (
+                SELECT ap.audition_id, count(*) AS videos
+                FROM public.application_videos av
+                JOIN public.applications ap ON ap.id = av.application_id
+                GROUP BY ap.audition_id
+              ) v ON v.audition_id = a.id
+              LEFT JOIN (
+                SELECT audition_id, sum(submitted) AS submitted, sum(reviewed) AS reviewed,
+                       sum(accepted) AS accepted, sum(rejected) AS rejected, sum(videos) AS videos
+                FROM public.audition_stats
+                GROUP BY audition_id
+              ) c ON c.audition_id = a.id
+            ) d
+            WHERE d.submitted <> 0 OR d.reviewed <> 0 OR d.accepted <> 0 OR d.rejected <> 0 OR d.videos <> 0
+            ON CONFLICT (audition_id, shard) DO UPDATE SET
+              submitted = s.submitted + EXCLUDED.submitted,
+              reviewed = s.reviewed + EXCLUDED.reviewed,
+              accepted = s.accepted + EXCLUDED.accepted,
+              rejected = s.rejected + EXCLUDED.rejected,
+              videos = s.videos + EXCLUDED.videos,
+              updated_at = now()
+            """, nativeQuery = true)
+    int correctDrift();
+
+    // Transaction-scoped, so it is released on commit/rollback even if the node dies mid-run.
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+}
@@ -0,0 +1,8 @@
+package com.audition.platform.domain.audition;
+
+public record AuditionStatsTotals(long submitted, long reviewed, long accepted, long rejected, long videos) {
+
+    public long applications() {
+        return submitted + reviewed + accepted + rejected;
+    }
+}
@@ -0,0 +1,4 @@
+package com.audition.platform.domain.audition;
+
+/** One row of a {@code GROUP BY status} aggregate. */
+public record StatusCount(String status, long count) {}
@@ -0,0 +1,51 @@
+package com.audition.platform.domain.audition;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Allowed status transitions of auditions and applications. Conditional UPDATEs use
+ * {@link #predecessorsOf(String)} in their WHERE clause, so the database enforces the same rules.
+ */
+public final class StatusTransitions {
+
+    // Decisions are final; REVIEWED is optional on the way to one.
+    public static final StatusTransitions APPLICATION = new StatusTransitions(Map.of(
+            "SUBMITTED", Set.of("REVIEWED", "ACCEPTED", "REJECTED"),
+            "REVIEWED", Set.of("ACCEPTED", "REJECTED"),
+            "ACCEPTED", Set.of(),
+            "REJECTED", Set.of()));
+
+    // Once published an audition never goes back to DRAFT; a closed one may be reopened.
+    public static final StatusTransitions AUDITION = new StatusTransitions(Map.of(
+            "DRAFT", Set.of("OPEN", "CLOSED"),
+            "OPEN", Set.of("CLOSED"),
+            "CLOSED", Set.of("OPEN")));
+
+    private final Map<String, Set<String>> next;
+
+    private StatusTransitions(Map<String, Set<String>> next) {
+        this.next = next;
+    }
+
+    public boolean allows(String from, String to) {
+        return next.getOrDefault(from, Set.of()).contains(to);
+    }
+
+    /**
+     * Statuses from which {@code to} can be reached. Never empty (a placeholder matches nothing), so it is
+     * safe in an SQL IN list, also when {@code to} is null because the status is not being changed.
+     */
+    public List<String> predecessorsOf(String to) {
+        if (to == null) {
+            return List.of("");
+        }
+        List<String> from = next.entrySet().stream()
+                .filter(e -> e.getValue().contains(to))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        return from.isEmpty() ? List.of("") : from;
+    }
+}
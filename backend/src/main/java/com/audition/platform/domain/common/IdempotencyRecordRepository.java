@@ -0,0 +1,61 @@
+package com.audition.platform.domain.common;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Claims the key for execution. Succeeds (returns 1) when the key is new, its stored response has
+     * expired, or a previous claim was abandoned past {@code locked_until}; otherwise returns 0.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "idempotency_keys"))
+    @Query(value = """
+            INSERT INTO public.idempotency_keys AS k (id, fingerprint, locked_until, expires_at)
+            VALUES (:id, :fingerprint, :lockedUntil, :expiresAt)
+            ON CONFLICT (id) DO UPDATE SET
+              fingerprint = EXCLUDED.fingerprint,
+              status_code = NULL,
+              content_type = NULL,
+              response_body = NULL,
+              response_headers = NULL,
+              locked_until = EXCLUDED.locked_until,
+              expires_at = EXCLUDED.expires_at,
+              created_at = now()
+            WHERE k.expires_at < now() OR (k.status_code IS NULL AND k.locked_until < now())
+            """, nativeQuery = true)
+    int claim(@Param("id") String id,
+              @Param("fingerprint") String fingerprint,
+              @Param("lockedUntil") Instant lockedUntil,
+              @Param("expiresAt") Instant expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("update IdempotencyRecord r set r.statusCode = :statusCode, r.contentType = :contentType, "
+            + "r.responseBody = :body, r.responseHeaders = :headers where r.id = :id and r.statusCode is null")
+    int complete(@Param("id") String id,
+                 @Param("statusCode") int statusCode,
+                 @Param("contentType") String contentType,
+                 @Param("body") byte[] body,
+                 @Param("headers") String headers);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.id = :id and r.statusCode is null")
+    int release(@Param("id") String id);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :cutoff")
+    int deleteExpired(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,30 @@
+package com.audition.platform.domain.common;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUIDs (RFC 9562 version 7): 48-bit Unix millisecond timestamp, then a 12-bit sequence,
+ * then 62 random bits. Ids created later sort after earlier ones, so primary-key and foreign-key index
+ * inserts land on the right-most pages instead of scattering across the whole B-tree.
+ * <p>
+ * The timestamp and sequence together are strictly increasing within this JVM; when more than 4096 ids
+ * are requested in one millisecond the counter borrows from the next millisecond.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    // (unix millis << 12) | sequence of the last id handed out
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {}
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long stamp = LAST.updateAndGet(last -> Math.max(now, last + 1));
+        long msb = (stamp >>> 12) << 16 | 0x7000L | (stamp & 0xFFFL);
+        long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
@@ -0,0 +1,25 @@
+package com.audition.platform.domain.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /** Revokes the token if it is still live; returns 1 for the one caller that wins the claim. */
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now "
+            + "where t.tokenHash = :tokenHash and t.revokedAt is null and t.expiresAt > :now")
+    int claim(@Param("tokenHash") String tokenHash, @Param("now") Instant now);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :cutoff")
+    int deleteExpired(@Param("cutoff") Instant cutoff);
+}
@@ -1,17 +1,20 @@
 package com.audition.platform.domain.user;
 
+import com.audition.platform.domain.common.TimeOrderedId;
 import jakarta.persistence.*;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 public class User {
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
+    @TimeOrderedId
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
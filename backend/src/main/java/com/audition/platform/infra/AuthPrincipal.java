@@ -0,0 +1,69 @@
+package com.audition.platform.infra;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable authenticated principal installed by {@link JwtAuthFilter}. Roles are a bitmask so role
+ * checks in services are a single AND instead of a scan over granted authorities.
+ */
+public record AuthPrincipal(UUID userId, int roles) {
+
+    public enum Role {
+        APPLICANT, AGENCY, ADMIN;
+
+        private final int bit = 1 << ordinal();
+
+        public static Role parse(String value) {
+            return value == null ? null : Role.valueOf(value);
+        }
+    }
+
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    public static AuthPrincipal of(UUID userId, Role role) {
+        return new AuthPrincipal(userId, role != null ? role.bit : 0);
+    }
+
+    public boolean hasRole(Role role) {
+        return (roles & role.bit) != 0;
+    }
+
+    public boolean hasAnyRole(Role first, Role second) {
+        return (roles & (first.bit | second.bit)) != 0;
+    }
+
+    public boolean isAdmin() {
+        return hasRole(Role.ADMIN);
+    }
+
+    /** Metrics tag value: the role name, or NONE. */
+    public String roleTag() {
+        for (Role role : Role.values()) {
+            if (hasRole(role)) {
+                return role.name();
+            }
+        }
+        return "NONE";
+    }
+
+    List<GrantedAuthority> authorities() {
+        for (Role role : Role.values()) {
+            if (hasRole(role)) {
+                return AUTHORITIES.get(role);
+            }
+        }
+        return List.of();
+    }
+}
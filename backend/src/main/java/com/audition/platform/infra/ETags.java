@@ -0,0 +1,24 @@
+package com.audition.platform.infra;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/** Strong ETags: the first 128 bits of a SHA-256 digest, base64url, quoted. */
+public final class ETags {
+
+    private ETags() {}
+
+    public static String fromDigest(byte[] sha256) {
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(sha256, 16)) + "\"";
+    }
+
+    public static String of(byte[] content) {
+        try {
+            return fromDigest(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
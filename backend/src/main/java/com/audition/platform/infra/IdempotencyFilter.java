@@ -0,0 +1,270 @@
+package com.audition.platform.infra;
+
+import com.audition.platform.api.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Makes mutating requests that carry an {@code Idempotency-Key} header safe to retry. The first request
+ * for a (user, key) pair executes and its response is stored; retries with the same method, path and body
+ * get that response replayed (marked {@code Idempotent-Replayed: true}) without touching the service, and
+ * retries that arrive while it is still running wait for it. The replay carries the original status, body
+ * and a small allowlist of headers ({@code ETag}, {@code Location}, ...). Reusing a key for a different
+ * request is 422. 5xx responses are not stored, so the client can retry them for real. The body is read
+ * into memory for the fingerprint, so keyed requests over {@code app.idempotency.max-request-bytes} are
+ * rejected with 413.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    // stored with the body so a replay carries the same validators, redirect target and paging cursor
+    private static final List<String> REPLAYED_HEADERS = List.of(
+            HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.LOCATION, HttpHeaders.CACHE_CONTROL, "X-Next-Cursor");
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<String> excludedPaths;
+    private final int maxResponseBytes;
+    private final int maxRequestBytes;
+
+    public IdempotencyFilter(IdempotencyStore store,
+                             ObjectMapper objectMapper,
+                             @Value("${app.idempotency.enabled:true}") boolean enabled,
+                             @Value("${app.idempotency.exclude-paths:/api/auth/**}") List<String> excludedPaths,
+                             @Value("${app.idempotency.max-response-bytes:1048576}") int maxResponseBytes,
+                             @Value("${app.idempotency.max-request-bytes:1048576}") int maxRequestBytes) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.excludedPaths = excludedPaths;
+        this.maxResponseBytes = maxResponseBytes;
+        this.maxRequestBytes = maxRequestBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!enabled || !METHODS.contains(request.getMethod()) || request.getHeader(KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return excludedPaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        UUID userId = SecurityUtils.getCurrentUserId();
+        if (userId == null) {
+            // unauthenticated; let the security chain reject it
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String idempotencyKey = request.getHeader(KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    KEY_HEADER + " must be 1-" + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        if (request.getContentLengthLong() > maxRequestBytes) {
+            writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, tooLarge());
+            return;
+        }
+        // Content-Length may be absent (chunked) or wrong, so the read itself is bounded too
+        byte[] body = request.getInputStream().readNBytes(maxRequestBytes + 1);
+        if (body.length > maxRequestBytes) {
+            writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, tooLarge());
+            return;
+        }
+        String key = TokenDigests.sha256(userId + ":" + idempotencyKey);
+        String fingerprint = fingerprint(request, body);
+
+        IdempotencyStore.StoredResponse stored;
+        try {
+            stored = store.awaitOrClaim(key, fingerprint);
+        } catch (IdempotencyStore.BusyException e) {
+            response.setHeader("Retry-After", "1");
+            writeError(request, response, HttpStatus.CONFLICT, "A request with this " + KEY_HEADER + " is still in progress");
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeError(request, response, HttpStatus.SERVICE_UNAVAILABLE, "Interrupted");
+            return;
+        }
+        if (stored != null) {
+            replay(request, response, stored, fingerprint);
+            return;
+        }
+
+        ContentCachingResponseWrapper recorded = new ContentCachingResponseWrapper(response);
+        boolean kept = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), recorded);
+            if (recorded.getStatus() < 500 && recorded.getContentSize() <= maxResponseBytes) {
+                store.complete(key, new IdempotencyStore.StoredResponse(fingerprint, recorded.getStatus(),
+                        recorded.getContentType(), replayedHeaders(recorded), recorded.getContentAsByteArray()));
+                kept = true;
+            }
+        } finally {
+            try {
+                if (!kept) {
+                    store.abandon(key);
+                }
+            } finally {
+                recorded.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void replay(HttpServletRequest request, HttpServletResponse response,
+                        IdempotencyStore.StoredResponse stored, String fingerprint) throws IOException {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    KEY_HEADER + " was already used for a different request");
+            return;
+        }
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        stored.headers().forEach(response::setHeader);
+        if (stored.body() != null) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private static Map<String, String> replayedHeaders(HttpServletResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : REPLAYED_HEADERS) {
+            String value = response.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
+
+    private String tooLarge() {
+        return "Request body over " + maxRequestBytes + " bytes cannot be sent with " + KEY_HEADER;
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response,
+                            HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(String.valueOf(status.value()), message, request.getRequestURI(), Instant.now()));
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update((request.getMethod() + ' ' + request.getRequestURI() + '?'
+                    + (request.getQueryString() != null ? request.getQueryString() : "") + '\n')
+                    .getBytes(StandardCharsets.UTF_8));
+            md.update(body);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** Request whose body was already read for the fingerprint; serves it again to the handler. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(@NonNull byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
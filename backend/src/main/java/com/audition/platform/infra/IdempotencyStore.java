@@ -0,0 +1,190 @@
+package com.audition.platform.infra;
+
+import com.audition.platform.domain.common.IdempotencyRecord;
+import com.audition.platform.domain.common.IdempotencyRecordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Stored responses for {@link IdempotencyFilter}. Three tiers: completed responses in a node-local cache,
+ * one in-flight future per key so duplicates on this node wait for the running execution, and the
+ * {@code idempotency_keys} table, which arbitrates between nodes and outlives restarts.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+    private static final long POLL_MS = 50;
+
+    /** {@code headers} holds only the allowlisted response headers the filter replays, in response order. */
+    public record StoredResponse(String fingerprint, int status, String contentType, Map<String, String> headers,
+                                 byte[] body) {}
+
+    /** Another execution still holds the key after the wait timeout. */
+    public static class BusyException extends Exception {
+        BusyException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private final IdempotencyRecordRepository repository;
+    private final Cache<String, StoredResponse> completed;
+    private final ConcurrentMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final long waitTimeoutNanos;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${app.idempotency.lock-timeout:60s}") Duration lockTimeout,
+                            @Value("${app.idempotency.wait-timeout-ms:10000}") long waitTimeoutMs,
+                            @Value("${app.idempotency.cache.max-size:10000}") long maxSize,
+                            @Value("${app.idempotency.cache.ttl:10m}") Duration cacheTtl) {
+        this.repository = repository;
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+        this.waitTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(cacheTtl.compareTo(ttl) < 0 ? cacheTtl : ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "idempotency.responses");
+    }
+
+    /**
+     * Returns the stored response for the key, waiting for an in-flight execution if there is one, or null
+     * when the caller has claimed the key and must execute the request and then call {@link #complete} or
+     * {@link #abandon}.
+     */
+    public StoredResponse awaitOrClaim(String key, String fingerprint) throws BusyException, InterruptedException {
+        long deadline = System.nanoTime() + waitTimeoutNanos;
+        while (true) {
+            StoredResponse cached = completed.getIfPresent(key);
+            if (cached != null) {
+                return cached;
+            }
+            CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, mine);
+            if (running == null) {
+                return claimOrPoll(key, fingerprint, mine, deadline);
+            }
+            try {
+                StoredResponse response = running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (response != null) {
+                    return response;
+                }
+                // the execution was abandoned; compete for the key again
+            } catch (TimeoutException e) {
+                throw new BusyException();
+            } catch (ExecutionException e) {
+                // cannot happen: futures are only completed normally
+            }
+        }
+    }
+
+    public void complete(String key, StoredResponse response) {
+        try {
+            repository.complete(key, response.status(), response.contentType(), response.body(),
+                    encodeHeaders(response.headers()));
+            completed.put(key, response);
+        } finally {
+            finish(key, response);
+        }
+    }
+
+    public void abandon(String key) {
+        try {
+            repository.release(key);
+        } finally {
+            finish(key, null);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-ms:3600000}")
+    public void purgeExpired() {
+        int purged = repository.deleteExpired(Instant.now());
+        if (purged > 0) {
+            log.info("[IdempotencyStore] purged {} expired idempotency key(s)", purged);
+        }
+    }
+
+    // Holds this node's in-flight slot for the key while the table decides who executes; local duplicates
+    // wait on the slot instead of polling the table themselves.
+    private StoredResponse claimOrPoll(String key, String fingerprint, CompletableFuture<StoredResponse> mine,
+                                       long deadline) throws BusyException, InterruptedException {
+        try {
+            while (true) {
+                Instant now = Instant.now();
+                if (repository.claim(key, fingerprint, now.plus(lockTimeout), now.plus(ttl)) == 1) {
+                    return null;
+                }
+                IdempotencyRecord record = repository.findById(key).orElse(null);
+                if (record != null && record.getStatusCode() != null) {
+                    StoredResponse response = new StoredResponse(record.getFingerprint(), record.getStatusCode(),
+                            record.getContentType(), decodeHeaders(record.getResponseHeaders()), record.getResponseBody());
+                    completed.put(key, response);
+                    finish(key, response);
+                    return response;
+                }
+                if (System.nanoTime() >= deadline) {
+                    throw new BusyException();
+                }
+                Thread.sleep(POLL_MS);
+            }
+        } catch (BusyException | InterruptedException | RuntimeException e) {
+            finish(key, null);
+            throw e;
+        }
+    }
+
+    // Header values cannot contain line breaks, so one "Name: value" line per header is unambiguous.
+    private static String encodeHeaders(Map<String, String> headers) {
+        if (headers.isEmpty()) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder();
+        headers.forEach((name, value) -> out.append(name).append(": ").append(value).append('\n'));
+        return out.toString();
+    }
+
+    private static Map<String, String> decodeHeaders(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String line : encoded.split("\n")) {
+            int colon = line.indexOf(": ");
+            if (colon > 0) {
+                headers.put(line.substring(0, colon), line.substring(colon + 2));
+            }
+        }
+        return headers;
+    }
+
+    private void finish(String key, StoredResponse response) {
+        CompletableFuture<StoredResponse> future = inFlight.remove(key);
+        if (future != null) {
+            future.complete(response);
+        }
+    }
+}
@@ -6,24 +6,24 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
-import java.util.List;
-import java.util.UUID;
 
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtService;
+    public static final String PRINCIPAL_ATTRIBUTE = JwtAuthFilter.class.getName() + ".principal";
 
-    public JwtAuthFilter(JwtService jwtService) {
-        this.jwtService = jwtService;
+    private final VerifiedTokenCache tokenCache;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+
+    public JwtAuthFilter(VerifiedTokenCache tokenCache, RevokedTokenRegistry revokedTokenRegistry) {
+        this.tokenCache = tokenCache;
+        this.revokedTokenRegistry = revokedTokenRegistry;
     }
 
     @Override
@@ -37,15 +37,18 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
         String token = authHeader.substring(7);
         try {
-            io.jsonwebtoken.Claims claims = jwtService.parseToken(token);
-            UUID userId = UUID.fromString(claims.getSubject());
-            String role = claims.get("role", String.class);
-            List<SimpleGrantedAuthority> authorities = Collections.singletonList(
-                    new SimpleGrantedAuthority("ROLE_" + role));
+            VerifiedTokenCache.VerifiedToken verified = tokenCache.verify(token);
+            if (revokedTokenRegistry.isRevoked(verified.tokenId())) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            AuthPrincipal principal = AuthPrincipal.of(verified.userId(), AuthPrincipal.Role.parse(verified.role()));
             var auth = new UsernamePasswordAuthenticationToken(
-                    userId, null, authorities);
+                    principal, null, principal.authorities());
             auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(auth);
+            // outlives the security context, for request metrics recorded after the chain returns
+            request.setAttribute(PRINCIPAL_ATTRIBUTE, principal);
         } catch (Exception ignored) {
             // invalid token — leave context empty
         }
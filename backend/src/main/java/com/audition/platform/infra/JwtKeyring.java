@@ -0,0 +1,66 @@
+package com.audition.platform.infra;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * HMAC signing keys indexed by {@code kid}, fixed at startup from configuration so every node verifies
+ * with the same set. Tokens without a {@code kid} header (issued before key ids were introduced) resolve
+ * to the legacy key.
+ *
+ * <p>Rotation is a config rollout, not a runtime call:
+ * <ol>
+ *   <li>add the new key to {@code app.jwt.previous-secrets} (verify-only) on every node;</li>
+ *   <li>once all nodes run with it, make it the active {@code app.jwt.kid}/{@code app.jwt.secret} and move
+ *       the old one into {@code previous-secrets};</li>
+ *   <li>after one access-token lifetime, drop the old key from {@code previous-secrets}.</li>
+ * </ol>
+ */
+public class JwtKeyring {
+
+    private final String activeKid;
+    private final String legacyKid;
+    private final Map<String, SecretKey> keys;
+
+    public JwtKeyring(String activeKid, String activeSecret, Map<String, String> previousSecrets) {
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        previousSecrets.forEach((kid, secret) -> keys.put(kid, toKey(secret)));
+        keys.put(activeKid, toKey(activeSecret));
+        this.activeKid = activeKid;
+        this.legacyKid = activeKid;
+        this.keys = Map.copyOf(keys);
+    }
+
+    public String activeKid() {
+        return activeKid;
+    }
+
+    public SecretKey activeKey() {
+        return keys.get(activeKid);
+    }
+
+    public Set<String> kids() {
+        return keys.keySet();
+    }
+
+    public Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        SecretKey key = keys.get(kid != null ? kid : legacyKid);
+        if (key == null) {
+            throw new InvalidKeyException("Unknown signing key id: " + kid);
+        }
+        return key;
+    }
+
+    private static SecretKey toKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,49 +1,108 @@
 package com.audition.platform.infra;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.LocatorAdapter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class JwtService {
 
-    private final SecretKey key;
+    private final JwtKeyring keyring;
+    private final JwtParser parser;
     private final long expirationMs;
+    private final long refreshExpirationMs;
+    private final SecureRandom secureRandom = new SecureRandom();
 
     public JwtService(
             @Value("${app.jwt.secret}") String secret,
-            @Value("${app.jwt.expiration-ms:86400000}") long expirationMs) {
-        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            @Value("${app.jwt.kid:default}") String kid,
+            @Value("${app.jwt.previous-secrets:}") String previousSecrets,
+            @Value("${app.jwt.expiration-ms:900000}") long expirationMs,
+            @Value("${app.jwt.refresh-expiration-ms:2592000000}") long refreshExpirationMs) {
+        this.keyring = new JwtKeyring(kid, secret, parsePreviousSecrets(previousSecrets));
+        // Built once: the parser is immutable and thread-safe, and resolves the key per token via kid.
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return keyring.locate(header);
+                    }
+                })
+                .build();
         this.expirationMs = expirationMs;
+        this.refreshExpirationMs = refreshExpirationMs;
     }
 
-    public String createToken(UUID userId, String email, String role) {
+    public String createToken(UUID userId, String email, String role, UUID tokenId) {
         return Jwts.builder()
+                .header().keyId(keyring.activeKid()).and()
+                .id(tokenId.toString())
                 .subject(userId.toString())
                 .claim("email", email)
                 .claim("role", role)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expirationMs))
-                .signWith(key)
+                .signWith(keyring.activeKey())
                 .compact();
     }
 
+    public String createRefreshToken() {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public long getExpirationMs() {
+        return expirationMs;
+    }
+
+    public long getRefreshExpirationMs() {
+        return refreshExpirationMs;
+    }
+
     public Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public UUID getUserIdFromToken(String token) {
         return UUID.fromString(parseToken(token).getSubject());
     }
+
+    public String getActiveKeyId() {
+        return keyring.activeKid();
+    }
+
+    public Set<String> getKeyIds() {
+        return keyring.kids();
+    }
+
+    // Format: "kid1=secret1,kid2=secret2"
+    private static Map<String, String> parsePreviousSecrets(String value) {
+        Map<String, String> secrets = new LinkedHashMap<>();
+        Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .forEach(entry -> {
+                    int idx = entry.indexOf('=');
+                    if (idx <= 0 || idx == entry.length() - 1) {
+                        throw new IllegalArgumentException("app.jwt.previous-secrets entries must be kid=secret");
+                    }
+                    secrets.put(entry.substring(0, idx).trim(), entry.substring(idx + 1).trim());
+                });
+        return secrets;
+    }
 }
@@ -0,0 +1,144 @@
+package com.audition.platform.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs BCrypt on a dedicated bounded pool so a login burst cannot occupy every request thread.
+ * When the queue is full, callers get 503 immediately instead of waiting.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final ThreadPoolExecutor executor;
+    private final BCryptPasswordEncoder encoder;
+    private final int strength;
+    private final long timeoutMs;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(MeterRegistry meterRegistry,
+                          @Value("${app.auth.hash.threads:0}") int threads,
+                          @Value("${app.auth.hash.queue-capacity:64}") int queueCapacity,
+                          @Value("${app.auth.hash.timeout-ms:5000}") long timeoutMs,
+                          @Value("${app.auth.hash.strength:12}") int strength,
+                          @Value("${app.auth.hash.target-ms:250}") long targetMs) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors());
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.strength = Math.max(MIN_STRENGTH, Math.min(MAX_STRENGTH, strength));
+        this.encoder = new BCryptPasswordEncoder(this.strength);
+        this.timeoutMs = timeoutMs;
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "encode")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.matchTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "matches")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.hash.rejected").register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        log.info("[PasswordHasher] pool={} queue={} bcrypt strength={}", poolSize, queueCapacity, this.strength);
+        int suggested = calibrate(targetMs);
+        if (suggested != this.strength) {
+            // only a hint: the cost is fleet-wide config, so nodes never disagree about which hashes are stale
+            log.info("[PasswordHasher] this node would hash in ~{}ms at strength {} (configured {})",
+                    targetMs, suggested, this.strength);
+        }
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> encoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String passwordHash) {
+        return submit(() -> matchTimer.record(() -> encoder.matches(rawPassword, passwordHash)));
+    }
+
+    /** True when the stored hash is weaker than the configured cost; never downgrades a stronger hash. */
+    public boolean needsRehash(String passwordHash) {
+        Matcher m = BCRYPT_COST.matcher(passwordHash);
+        return !m.find() || Integer.parseInt(m.group(1)) < strength;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Authentication is busy, please retry");
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Authentication is busy, please retry");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Authentication interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // Each BCrypt cost step doubles the work, so extrapolate from one measured hash at the minimum cost.
+    // Used for the startup hint only.
+    private static int calibrate(long targetMs) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_STRENGTH);
+        probe.encode("calibration");
+        long start = System.nanoTime();
+        probe.encode("calibration");
+        double elapsedMs = Math.max(1.0, (System.nanoTime() - start) / 1_000_000.0);
+        int steps = (int) Math.round(Math.log(targetMs / elapsedMs) / Math.log(2));
+        return Math.max(MIN_STRENGTH, Math.min(MAX_STRENGTH, MIN_STRENGTH + steps));
+    }
+}
@@ -0,0 +1,125 @@
+package com.audition.platform.infra;
+
+import com.audition.platform.api.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user (falling back to client IP) rate limiting per route group. Each bucket is a single
+ * {@link AtomicLong} holding the GCRA "theoretical arrival time", updated by CAS, so there is no locking
+ * on the request path. Buckets live in a size-bounded cache and are dropped after being idle.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record Route(String name, List<String> paths, List<String> methods, long intervalNanos, long toleranceNanos) {}
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<Route> routes;
+    private final boolean enabled;
+    private final Cache<String, AtomicLong> buckets;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final long origin = System.nanoTime();
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.routes = properties.getGroups().stream()
+                .filter(g -> g.getPermitsPerSecond() > 0)
+                .map(g -> {
+                    long interval = (long) (TimeUnit.SECONDS.toNanos(1) / g.getPermitsPerSecond());
+                    return new Route(g.getName(), g.getPaths(),
+                            g.getMethods().stream().map(m -> m.toUpperCase(Locale.ROOT)).toList(),
+                            interval, interval * Math.max(1, g.getBurst()));
+                })
+                .toList();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Route route = match(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        UUID userId = SecurityUtils.getCurrentUserId();
+        String key = route.name() + '|' + (userId != null ? userId.toString() : request.getRemoteAddr());
+        long waitNanos = acquire(buckets.get(key, k -> new AtomicLong()), route);
+        if (waitNanos <= 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        meterRegistry.counter("http.rate-limit.rejected", "group", route.name()).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse("429", "Too many requests", request.getRequestURI(), Instant.now()));
+    }
+
+    // Returns 0 when a permit was taken, otherwise nanoseconds until one is available.
+    private long acquire(AtomicLong tat, Route route) {
+        long now = System.nanoTime() - origin;
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + route.intervalNanos();
+            long excess = next - now - route.toleranceNanos();
+            if (excess > 0) {
+                return excess;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private Route match(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String method = request.getMethod();
+        for (Route route : routes) {
+            if (!route.methods().isEmpty() && !route.methods().contains(method)) {
+                continue;
+            }
+            for (String pattern : route.paths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+}
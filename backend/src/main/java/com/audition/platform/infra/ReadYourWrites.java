@@ -0,0 +1,53 @@
+package com.audition.platform.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Users who committed a write within the last {@code sticky-window}. Their read-only transactions stay
+ * on the primary so they see their own writes despite replica lag. Node-local: the window should cover
+ * the replica's normal lag, not a request that lands on another node.
+ */
+@Component
+public class ReadYourWrites {
+
+    private final Cache<UUID, Boolean> recentWriters;
+
+    public ReadYourWrites(@Value("${app.datasource.replica.sticky-window:5s}") Duration window,
+                          @Value("${app.datasource.replica.sticky-max-users:100000}") long maxUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void markWritten(UUID userId) {
+        if (userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public boolean wroteRecently(UUID userId) {
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    /** Marks the user once the current read-write transaction commits. */
+    void markOnCommit(UUID userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markWritten(userId);
+            }
+        });
+    }
+}
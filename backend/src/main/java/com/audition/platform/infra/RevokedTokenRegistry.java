@@ -0,0 +1,66 @@
+package com.audition.platform.infra;
+
+import com.audition.platform.domain.user.RevokedTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory view of revoked access-token ids, rebuilt from {@code revoked_tokens} on a short interval so
+ * revocations made on other nodes take effect within seconds. The request path only consults the Bloom
+ * filter; a false positive means the client refreshes its access token.
+ */
+@Component
+public class RevokedTokenRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(RevokedTokenRegistry.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+    private final AtomicLong size = new AtomicLong();
+    private volatile UuidBloomFilter filter;
+
+    public RevokedTokenRegistry(RevokedTokenRepository revokedTokenRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.jwt.revocation.expected-entries:100000}") long expectedEntries,
+                                @Value("${app.jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new UuidBloomFilter(expectedEntries, falsePositiveRate);
+        Gauge.builder("jwt.revoked-tokens", size, AtomicLong::get).register(meterRegistry);
+    }
+
+    public boolean isRevoked(UUID tokenId) {
+        return tokenId != null && filter.mightContain(tokenId);
+    }
+
+    public void add(UUID tokenId) {
+        filter.add(tokenId);
+        size.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.refresh-ms:5000}")
+    public void rebuild() {
+        try {
+            List<UUID> ids = revokedTokenRepository.findActiveTokenIds(Instant.now());
+            UuidBloomFilter next = new UuidBloomFilter(Math.max(expectedEntries, ids.size() * 2L), falsePositiveRate);
+            ids.forEach(next::add);
+            filter = next;
+            size.set(ids.size());
+        } catch (RuntimeException e) {
+            // keep serving the previous filter; the next run retries
+            log.warn("[RevokedTokenRegistry] rebuild failed: {}", e.getMessage());
+        }
+    }
+}
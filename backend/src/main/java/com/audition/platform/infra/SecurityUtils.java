@@ -1,7 +1,9 @@
 package com.audition.platform.infra;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.UUID;
 
@@ -9,18 +11,29 @@ public final class SecurityUtils {
 
     private SecurityUtils() {}
 
-    public static UUID getCurrentUserId() {
+    public static AuthPrincipal getCurrentPrincipal() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null || !auth.isAuthenticated() || !(auth.getPrincipal() instanceof UUID)) {
+        if (auth == null || !auth.isAuthenticated() || !(auth.getPrincipal() instanceof AuthPrincipal principal)) {
             return null;
         }
-        return (UUID) auth.getPrincipal();
+        return principal;
+    }
+
+    public static AuthPrincipal requirePrincipal() {
+        AuthPrincipal principal = getCurrentPrincipal();
+        if (principal == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not authenticated");
+        }
+        return principal;
+    }
+
+    public static UUID getCurrentUserId() {
+        AuthPrincipal principal = getCurrentPrincipal();
+        return principal != null ? principal.userId() : null;
     }
 
     public static boolean hasRole(String role) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null) return false;
-        return auth.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_" + role));
+        AuthPrincipal principal = getCurrentPrincipal();
+        return principal != null && principal.hasRole(AuthPrincipal.Role.valueOf(role));
     }
 }
@@ -0,0 +1,71 @@
+package com.audition.platform.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public method of the application services as {@code app.service}, tagged with service,
+ * method, caller role and outcome (all bounded). Ordered outside the transaction advice, so commit time
+ * is included. Histograms and SLO buckets come from {@code management.metrics.distribution.*}. Timers are
+ * registered once per tag combination and cached, so a call costs one map lookup.
+ */
+@Aspect
+@Component
+@Order(0)
+public class ServiceTimingAspect {
+
+    public static final String METRIC = "app.service";
+
+    private record Key(Class<?> service, String method, String role, String outcome) {}
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<Key, Timer> timers = new ConcurrentHashMap<>();
+
+    public ServiceTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(com.audition.platform.application..*) "
+            + "&& @within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String outcome = "SUCCESS";
+        try {
+            return joinPoint.proceed();
+        } catch (ResponseStatusException e) {
+            outcome = e.getStatusCode().is4xxClientError() ? "CLIENT_ERROR" : "SERVER_ERROR";
+            throw e;
+        } catch (Throwable e) {
+            outcome = "SERVER_ERROR";
+            throw e;
+        } finally {
+            AuthPrincipal principal = SecurityUtils.getCurrentPrincipal();
+            Key key = new Key(joinPoint.getSignature().getDeclaringType(), joinPoint.getSignature().getName(),
+                    principal != null ? principal.roleTag() : "ANONYMOUS", outcome);
+            Timer timer = timers.get(key);
+            if (timer == null) {
+                timer = timers.computeIfAbsent(key, this::register);
+            }
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer register(Key key) {
+        return Timer.builder(METRIC)
+                .tag("service", key.service().getSimpleName())
+                .tag("method", key.method())
+                .tag("role", key.role())
+                .tag("outcome", key.outcome())
+                .register(meterRegistry);
+    }
+}
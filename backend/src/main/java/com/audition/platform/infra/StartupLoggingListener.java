@@ -36,6 +36,11 @@ public class StartupLoggingListener implements ApplicationListener<ApplicationRe
         String hbm2ddl = env.getProperty("spring.jpa.properties.hibernate.hbm2ddl.auto", "not set");
         log.info("[Startup] ddl-auto value: {}, hbm2ddl.auto: {} (production must be 'none')", ddlAuto, hbm2ddl);
 
+        boolean virtualThreads = env.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        int javaVersion = Runtime.version().feature();
+        log.info("[Startup] Request threads: {}", !virtualThreads ? "platform"
+                : javaVersion >= 21 ? "virtual" : "platform (virtual threads need JDK 21+, running " + javaVersion + ")");
+
         var info = flyway.info();
         int pending = info.pending().length;
         int applied = info.applied().length;
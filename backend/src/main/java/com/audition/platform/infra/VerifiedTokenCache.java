@@ -0,0 +1,81 @@
+package com.audition.platform.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Bounded cache of already-verified bearer tokens, keyed by SHA-256 digest of the raw token.
+ * Entries expire exactly at the token's {@code exp}, so a cached token is never honoured longer
+ * than the signature check would have allowed.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    public record VerifiedToken(UUID userId, String role, UUID tokenId, Instant expiresAt) {}
+
+    private final JwtService jwtService;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtService jwtService,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.jwt.cache.max-size:10000}") long maxSize) {
+        this.jwtService = jwtService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+
+    /**
+     * Returns the verified token, or throws the underlying JWT exception when the token is invalid.
+     * Invalid tokens are never cached.
+     */
+    public VerifiedToken verify(String token) {
+        String key = TokenDigests.sha256(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
+        VerifiedToken verified = toVerifiedToken(jwtService.parseToken(token));
+        cache.put(key, verified);
+        return verified;
+    }
+
+    private static VerifiedToken toVerifiedToken(Claims claims) {
+        return new VerifiedToken(
+                UUID.fromString(claims.getSubject()),
+                claims.get("role", String.class),
+                claims.getId() != null ? UUID.fromString(claims.getId()) : null,
+                claims.getExpiration().toInstant());
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(@NonNull String key, @NonNull VerifiedToken value, long currentTime) {
+            long remainingMs = value.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            return Math.max(0L, remainingMs) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(@NonNull String key, @NonNull VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(@NonNull String key, @NonNull VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
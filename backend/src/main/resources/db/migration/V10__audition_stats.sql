@@ -0,0 +1,40 @@
+SET search_path TO public;
+
+-- Per-audition counters maintained in the same transaction as the writes they count.
+-- Each audition has up to N shard rows; writers pick a random shard so a hot audition does not
+-- serialize every apply on one row lock. Readers sum the shards.
+CREATE TABLE IF NOT EXISTS public.audition_stats (
+  audition_id UUID NOT NULL REFERENCES public.auditions(id) ON DELETE CASCADE,
+  shard SMALLINT NOT NULL,
+  submitted BIGINT NOT NULL DEFAULT 0,
+  reviewed BIGINT NOT NULL DEFAULT 0,
+  accepted BIGINT NOT NULL DEFAULT 0,
+  rejected BIGINT NOT NULL DEFAULT 0,
+  videos BIGINT NOT NULL DEFAULT 0,
+  updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  PRIMARY KEY (audition_id, shard)
+);
+
+-- Backfill; anything written between this migration and the new code going live is corrected by
+-- the scheduled verify job.
+INSERT INTO public.audition_stats (audition_id, shard, submitted, reviewed, accepted, rejected, videos)
+SELECT a.id, 0,
+       coalesce(t.submitted, 0), coalesce(t.reviewed, 0), coalesce(t.accepted, 0), coalesce(t.rejected, 0),
+       coalesce(v.videos, 0)
+FROM public.auditions a
+LEFT JOIN (
+  SELECT audition_id,
+         count(*) FILTER (WHERE status = 'SUBMITTED') AS submitted,
+         count(*) FILTER (WHERE status = 'REVIEWED') AS reviewed,
+         count(*) FILTER (WHERE status = 'ACCEPTED') AS accepted,
+         count(*) FILTER (WHERE status = 'REJECTED') AS rejected
+  FROM public.applications
+  GROUP BY audition_id
+) t ON t.audition_id = a.id
+LEFT JOIN (
+  SELECT ap.audition_id, count(*) AS videos
+  FROM public.application_videos v
+  JOIN public.applications ap ON ap.id = v.application_id
+  GROUP BY ap.audition_id
+) v ON v.audition_id = a.id
+ON CONFLICT (audition_id, shard) DO NOTHING;
@@ -0,0 +1,23 @@
+SET search_path TO public;
+
+-- Time-ordered UUIDs (RFC 9562 v7) for rows created by SQL, e.g. INSERT ... SELECT paths and manual
+-- backfills; the application assigns the same format itself (domain.common.UuidV7). Existing rows keep
+-- their random ids: both formats are plain UUIDs, so references and indexes are unaffected, and only new
+-- inserts become append-mostly.
+CREATE OR REPLACE FUNCTION public.uuid_generate_v7() RETURNS uuid AS $$
+  SELECT encode(
+           set_bit(
+             set_bit(
+               overlay(uuid_send(gen_random_uuid())
+                       PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                       FROM 1 FOR 6),
+               52, 1),
+             53, 1),
+           'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+ALTER TABLE public.users ALTER COLUMN id SET DEFAULT public.uuid_generate_v7();
+ALTER TABLE public.auditions ALTER COLUMN id SET DEFAULT public.uuid_generate_v7();
+ALTER TABLE public.applications ALTER COLUMN id SET DEFAULT public.uuid_generate_v7();
+ALTER TABLE public.application_videos ALTER COLUMN id SET DEFAULT public.uuid_generate_v7();
+ALTER TABLE public.refresh_tokens ALTER COLUMN id SET DEFAULT public.uuid_generate_v7();
@@ -0,0 +1,17 @@
+SET search_path TO public;
+
+-- Responses of mutating requests sent with an Idempotency-Key, replayed to retries until expires_at.
+-- A row with a null status_code is a claim on an execution still in flight; locked_until lets another
+-- node take it over if the owner died.
+CREATE TABLE IF NOT EXISTS public.idempotency_keys (
+  id TEXT PRIMARY KEY,             -- sha256(user id ':' Idempotency-Key)
+  fingerprint TEXT NOT NULL,       -- sha256 of method, path, query and body
+  status_code INT,
+  content_type TEXT,
+  response_body BYTEA,
+  locked_until TIMESTAMPTZ NOT NULL,
+  expires_at TIMESTAMPTZ NOT NULL,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires ON public.idempotency_keys(expires_at);
@@ -0,0 +1,6 @@
+SET search_path TO public;
+
+-- Optimistic-locking version, bumped by every status/field transition; exposed as the ETag prefix so
+-- If-Match can be checked inside the UPDATE itself.
+ALTER TABLE public.auditions ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE public.applications ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
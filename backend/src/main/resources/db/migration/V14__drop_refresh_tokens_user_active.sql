@@ -0,0 +1,5 @@
+SET search_path TO public;
+
+-- Refresh tokens are claimed by token_hash (unique) and purged by expires_at; nothing looks them up
+-- by user any more, so this partial index only added work to every token insert and revocation.
+DROP INDEX IF EXISTS public.idx_refresh_tokens_user_active;
@@ -0,0 +1,5 @@
+SET search_path TO public;
+
+-- Allowlisted response headers (ETag, Location, ...) replayed with the stored body, one "Name: value"
+-- per line.
+ALTER TABLE public.idempotency_keys ADD COLUMN IF NOT EXISTS response_headers TEXT;
@@ -0,0 +1,10 @@
+SET search_path TO public;
+
+-- Keyset pagination on (created_at DESC, id DESC) for per-audition and per-applicant lists.
+CREATE INDEX IF NOT EXISTS idx_applications_audition_created ON public.applications(audition_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_applications_audition_status_created ON public.applications(audition_id, status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_applications_applicant_created ON public.applications(applicant_id, created_at DESC, id DESC);
+
+-- Superseded by the composite indexes above (same leading column).
+DROP INDEX IF EXISTS public.idx_applications_audition;
+DROP INDEX IF EXISTS public.idx_applications_applicant;
@@ -0,0 +1,14 @@
+SET search_path TO public;
+
+-- Public catalog: only OPEN auditions are served anonymously, so keep those indexes partial.
+CREATE INDEX IF NOT EXISTS idx_auditions_open_created ON public.auditions(created_at DESC, id DESC) WHERE status = 'OPEN';
+CREATE INDEX IF NOT EXISTS idx_auditions_open_deadline ON public.auditions(deadline_at, id) WHERE status = 'OPEN' AND deadline_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_auditions_open_country_created ON public.auditions(country_code, created_at DESC, id DESC) WHERE status = 'OPEN';
+CREATE INDEX IF NOT EXISTS idx_auditions_open_category_created ON public.auditions(category, created_at DESC, id DESC) WHERE status = 'OPEN';
+
+-- Non-OPEN listings (AGENCY/ADMIN) and per-owner lists.
+CREATE INDEX IF NOT EXISTS idx_auditions_status_created ON public.auditions(status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_auditions_owner_created ON public.auditions(owner_id, created_at DESC, id DESC);
+
+-- Superseded by idx_auditions_owner_created (same leading column).
+DROP INDEX IF EXISTS public.idx_auditions_owner;
@@ -0,0 +1,11 @@
+SET search_path TO public;
+
+-- 'simple' keeps tokens language-neutral (titles are mixed Korean/English); title outranks description.
+ALTER TABLE IF EXISTS public.auditions
+  ADD COLUMN IF NOT EXISTS search_vector tsvector
+  GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+  ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_auditions_search ON public.auditions USING GIN (search_vector);
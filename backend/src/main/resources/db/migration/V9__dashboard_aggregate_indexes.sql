@@ -0,0 +1,7 @@
+SET search_path TO public;
+
+-- Platform-wide "recent applications" for the ADMIN dashboard.
+CREATE INDEX IF NOT EXISTS idx_applications_created ON public.applications(created_at DESC, id DESC);
+
+-- Per-applicant status counts can be answered from the index alone.
+CREATE INDEX IF NOT EXISTS idx_applications_applicant_status ON public.applications(applicant_id, status);
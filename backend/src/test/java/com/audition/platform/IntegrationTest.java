@@ -0,0 +1,93 @@
+package com.audition.platform;
+
+import com.audition.platform.domain.common.UuidV7;
+import com.audition.platform.infra.JwtService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Boots the whole application on a random port against one throwaway PostgreSQL per test JVM (Flyway
+ * migrates it on the first context). Rate limiting is off: tests fire bursts from a single address.
+ * Users and auditions are inserted directly and tokens minted with {@link JwtService}, so setup skips
+ * BCrypt and the auth endpoints.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "app.rate-limit.enabled=false")
+public abstract class IntegrationTest {
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres") + "&currentSchema=public");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @LocalServerPort
+    protected int port;
+
+    @Autowired
+    protected JdbcTemplate jdbc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    protected final HttpClient http = HttpClient.newHttpClient();
+
+    protected UUID createUser(String role) {
+        UUID id = UuidV7.next();
+        jdbc.update("INSERT INTO public.users (id, email, password_hash, role) VALUES (?, ?, 'x', ?)",
+                id, email(id, role), role);
+        return id;
+    }
+
+    protected String tokenFor(UUID userId, String role) {
+        return jwtService.createToken(userId, email(userId, role), role, UUID.randomUUID());
+    }
+
+    protected UUID createOpenAudition(UUID ownerId) {
+        UUID id = UuidV7.next();
+        jdbc.update("INSERT INTO public.auditions (id, owner_id, title, status) VALUES (?, ?, ?, 'OPEN')",
+                id, ownerId, "audition " + id);
+        return id;
+    }
+
+    protected HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api" + path));
+        return token != null ? builder.header("Authorization", "Bearer " + token) : builder;
+    }
+
+    private static String email(UUID id, String role) {
+        return role.toLowerCase(Locale.ROOT) + "-" + id + "@test.local";
+    }
+
+    /** Starts a throwaway PostgreSQL that is closed when the test JVM exits. */
+    protected static EmbeddedPostgres startPostgres() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException e) {
+                    // the process is going away either way
+                }
+            }));
+            return postgres;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start embedded PostgreSQL", e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.audition.platform.api;
+
+import com.audition.platform.IntegrationTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exports a million applications through the HTTP endpoint. Run with {@code -Pperf}, which caps the
+ * heap at 256 MB: the CSV alone is well over 100 MB, so an export that buffered rows or the body would
+ * fail with OutOfMemoryError, and the heap sampled after GC must stay flat while the body streams.
+ */
+@Tag("perf")
+class ApplicationExportTest extends IntegrationTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int SAMPLE_EVERY = 100_000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+
+    @Test
+    void streamsAMillionRowsInConstantMemory() throws Exception {
+        UUID agencyId = createUser("AGENCY");
+        UUID auditionId = createOpenAudition(agencyId);
+        jdbc.update("""
+                INSERT INTO public.users (id, email, password_hash, role)
+                SELECT public.uuid_generate_v7(), 'export-' || g || '@test.local', 'x', 'APPLICANT'
+                FROM generate_series(1, ?) g
+                """, ROWS);
+        jdbc.update("""
+                INSERT INTO public.applications (id, audition_id, applicant_id, status, created_at, updated_at)
+                SELECT public.uuid_generate_v7(), ?, u.id, 'SUBMITTED', now(), now()
+                FROM public.users u
+                WHERE u.email LIKE 'export-%'
+                """, auditionId);
+
+        HttpResponse<InputStream> response = http.send(
+                request("/auditions/" + auditionId + "/applications/export?format=csv", tokenFor(agencyId, "AGENCY"))
+                        .GET().build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        assertThat(response.statusCode()).isEqualTo(200);
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long minHeap = Long.MAX_VALUE;
+        long maxHeap = 0;
+        long lines = 0;
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream body = response.body()) {
+            for (int n; (n = body.read(buffer)) > 0; ) {
+                for (int i = 0; i < n; i++) {
+                    if (buffer[i] == '\n' && ++lines % SAMPLE_EVERY == 0) {
+                        System.gc();
+                        long used = memory.getHeapMemoryUsage().getUsed();
+                        minHeap = Math.min(minHeap, used);
+                        maxHeap = Math.max(maxHeap, used);
+                    }
+                }
+            }
+        }
+
+        // header line plus one line per application
+        assertThat(lines - 1).isEqualTo(ROWS);
+        assertThat(maxHeap - minHeap)
+                .as("heap growth while streaming (min %d MB, max %d MB)", minHeap >> 20, maxHeap >> 20)
+                .isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+}
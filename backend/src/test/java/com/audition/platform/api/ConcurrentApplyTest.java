@@ -0,0 +1,70 @@
+package com.audition.platform.api;
+
+import com.audition.platform.IntegrationTest;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * One applicant fires the same apply many times at once. The conditional insert and the sharded
+ * counters must turn that into exactly one application and one counted submission; every loser gets
+ * a clean 409, never a 500 from a unique-constraint or lock error.
+ */
+class ConcurrentApplyTest extends IntegrationTest {
+
+    private static final int REQUESTS = 32;
+
+    @Test
+    void parallelDuplicateAppliesCreateExactlyOneApplication() throws Exception {
+        UUID auditionId = createOpenAudition(createUser("AGENCY"));
+        UUID applicantId = createUser("APPLICANT");
+        HttpRequest apply = request("/auditions/" + auditionId + "/apply", tokenFor(applicantId, "APPLICANT"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(REQUESTS);
+        List<Integer> statuses = new ArrayList<>();
+        try {
+            List<Future<Integer>> calls = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                calls.add(pool.submit(() -> {
+                    start.await();
+                    return http.send(apply, HttpResponse.BodyHandlers.discarding()).statusCode();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> call : calls) {
+                statuses.add(call.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Map<Integer, Long> byStatus = statuses.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        assertThat(byStatus).containsOnlyKeys(201, 409);
+        assertThat(byStatus.get(201)).isEqualTo(1L);
+        assertThat(byStatus.get(409)).isEqualTo(REQUESTS - 1L);
+
+        assertThat(jdbc.queryForObject(
+                "SELECT count(*) FROM public.applications WHERE audition_id = ? AND applicant_id = ?",
+                Long.class, auditionId, applicantId)).isEqualTo(1L);
+        assertThat(jdbc.queryForObject(
+                "SELECT coalesce(sum(submitted), 0) FROM public.audition_stats WHERE audition_id = ?",
+                Long.class, auditionId)).isEqualTo(1L);
+    }
+}
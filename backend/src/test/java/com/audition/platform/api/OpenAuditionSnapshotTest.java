@@ -0,0 +1,66 @@
+package com.audition.platform.api;
+
+import com.audition.platform.IntegrationTest;
+import com.audition.platform.application.OpenAuditionSnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The web catalog's first-page request must be answered from the pre-serialized snapshot, and that answer
+ * must match what the keyset query returns for the same page. Rows inserted straight into the table skip
+ * {@link OpenAuditionSnapshot#publish}, so they show up in the keyset query but not in the snapshot until
+ * it reconciles; the scheduled reconcile is pushed out so only the test triggers it.
+ */
+@TestPropertySource(properties = "app.catalog.snapshot.reconcile-ms=3600000")
+class OpenAuditionSnapshotTest extends IntegrationTest {
+
+    // what the web client's catalog (auditionApi.listOpen) sends for its first page
+    private static final String WEB_FIRST_PAGE = "/auditions?status=OPEN";
+
+    @Autowired
+    private OpenAuditionSnapshot openAuditionSnapshot;
+
+    @Test
+    void firstPageRequestsAreServedFromTheSnapshot() throws Exception {
+        UUID agencyId = createUser("AGENCY");
+        String token = tokenFor(agencyId, "AGENCY");
+        for (int i = 0; i <= OpenAuditionSnapshot.PAGE_SIZE; i++) {
+            createOpenAudition(agencyId);
+        }
+        openAuditionSnapshot.reconcile();
+        UUID unpublished = createOpenAudition(agencyId);
+
+        for (String path : new String[] {WEB_FIRST_PAGE, "/auditions", "/auditions?limit=" + OpenAuditionSnapshot.PAGE_SIZE}) {
+            HttpResponse<String> page = get(path, token);
+            assertThat(page.statusCode()).as(path).isEqualTo(200);
+            assertThat(page.body()).as(path).doesNotContain(unpublished.toString());
+            assertThat(page.headers().firstValue("X-Next-Cursor")).as(path).isPresent();
+        }
+        // any other shape goes to the database
+        assertThat(get("/auditions?limit=10", token).body()).contains(unpublished.toString());
+        assertThat(get("/auditions?sort=createdAt", token).body()).contains(unpublished.toString());
+
+        openAuditionSnapshot.reconcile();
+        HttpResponse<String> fromSnapshot = get(WEB_FIRST_PAGE, token);
+        HttpResponse<String> fromQuery = get("/auditions?sort=createdAt&limit=" + OpenAuditionSnapshot.PAGE_SIZE, token);
+        assertThat(fromSnapshot.body()).contains(unpublished.toString()).isEqualTo(fromQuery.body());
+        String nextCursor = fromSnapshot.headers().firstValue("X-Next-Cursor").orElseThrow();
+        assertThat(nextCursor).isEqualTo(fromQuery.headers().firstValue("X-Next-Cursor").orElseThrow());
+        assertThat(get("/auditions?status=OPEN&cursor=" + nextCursor, token).statusCode()).isEqualTo(200);
+
+        String etag = fromSnapshot.headers().firstValue("ETag").orElseThrow();
+        HttpResponse<String> revalidated = http.send(request(WEB_FIRST_PAGE, token).header("If-None-Match", etag).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(revalidated.statusCode()).isEqualTo(304);
+    }
+
+    private HttpResponse<String> get(String path, String token) throws Exception {
+        return http.send(request(path, token).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
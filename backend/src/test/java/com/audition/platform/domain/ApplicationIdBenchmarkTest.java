@@ -0,0 +1,68 @@
+package com.audition.platform.domain;
+
+import com.audition.platform.IntegrationTest;
+import com.audition.platform.domain.common.UuidV7;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk-inserts applications keyed by random (v4) ids and by time-ordered (v7) ids and reports rows/s
+ * and the size of {@code applications_pkey} for each. Random keys split pages all over the B-tree and
+ * leave them half full; v7 keys append to the right-most page. Run with {@code -Pperf}.
+ */
+@Tag("perf")
+class ApplicationIdBenchmarkTest extends IntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationIdBenchmarkTest.class);
+
+    private static final int ROWS = 500_000;
+    private static final int BATCH = 1_000;
+
+    private record Result(String ids, double rowsPerSecond, long pkeyBytes) {}
+
+    @Test
+    void timeOrderedIdsInsertIntoASmallerPrimaryKey() {
+        UUID auditionId = createOpenAudition(createUser("AGENCY"));
+        jdbc.update("""
+                INSERT INTO public.users (id, email, password_hash, role)
+                SELECT public.uuid_generate_v7(), 'bench-' || g || '@test.local', 'x', 'APPLICANT'
+                FROM generate_series(1, ?) g
+                """, ROWS);
+        List<UUID> applicants = jdbc.queryForList(
+                "SELECT id FROM public.users WHERE email LIKE 'bench-%' ORDER BY email", UUID.class);
+
+        Result random = run("random (v4)", UUID::randomUUID, auditionId, applicants);
+        Result timeOrdered = run("time-ordered (v7)", UuidV7::next, auditionId, applicants);
+
+        for (Result r : List.of(random, timeOrdered)) {
+            log.info("[ApplicationIdBenchmark] {} ids: {} rows/s, applications_pkey {} MB",
+                    r.ids(), Math.round(r.rowsPerSecond()), r.pkeyBytes() >> 20);
+        }
+        assertThat(timeOrdered.pkeyBytes()).isLessThan(random.pkeyBytes());
+    }
+
+    private Result run(String name, Supplier<UUID> ids, UUID auditionId, List<UUID> applicants) {
+        jdbc.execute("TRUNCATE public.applications CASCADE");
+        long start = System.nanoTime();
+        for (int from = 0; from < applicants.size(); from += BATCH) {
+            List<Object[]> batch = new ArrayList<>(BATCH);
+            for (UUID applicantId : applicants.subList(from, Math.min(from + BATCH, applicants.size()))) {
+                batch.add(new Object[] {ids.get(), auditionId, applicantId});
+            }
+            jdbc.batchUpdate("INSERT INTO public.applications (id, audition_id, applicant_id, status) "
+                    + "VALUES (?, ?, ?, 'SUBMITTED')", batch);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Long pkeyBytes = jdbc.queryForObject("SELECT pg_relation_size('public.applications_pkey')", Long.class);
+        return new Result(name, applicants.size() / seconds, pkeyBytes);
+    }
+}
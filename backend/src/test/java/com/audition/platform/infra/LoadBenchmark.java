@@ -0,0 +1,173 @@
+package com.audition.platform.infra;
+
+import com.audition.platform.IntegrationTest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Drives {@code GET /api/auditions?limit=20} (a keyset query, not the in-memory snapshot) and
+ * {@code POST /api/auditions/{id}/apply} with more concurrent clients than the pool has connections, and
+ * logs throughput, p50/p99 latency and status counts. The subclasses run it on platform threads (with the
+ * {@link ConnectionGate} off and on) and on virtual threads, where the gate is on by default; compare their
+ * {@code [LoadBenchmark]} lines. Run with {@code -Pperf,jdk21}: virtual threads need a JDK 21 runtime and
+ * are skipped without one, and {@code -Pperf} gives each class its own JVM, because sharing one made
+ * whichever ran second look faster from the extra JIT warm-up alone.
+ */
+@Tag("perf")
+abstract class LoadBenchmark extends IntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadBenchmark.class);
+
+    static final String POOL_SIZE = "spring.datasource.hikari.maximum-pool-size=4";
+
+    private static final int CLIENTS = 64;
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+    private static final Duration MEASURE = Duration.ofSeconds(15);
+    private static final int APPLICANTS = 50_000;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ServletWebServerApplicationContext webServerContext;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${app.datasource.gate.enabled:${spring.threads.virtual.enabled:false}}")
+    private boolean gated;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    private record Report(double requestsPerSecond, double p50Ms, double p99Ms, Map<Integer, Long> statuses) {}
+
+    @Test
+    void reportsThroughputAndLatencyUnderConnectionPressure() throws Exception {
+        assumeTrue(!virtualThreads || Runtime.version().feature() >= 21, "virtual threads need JDK 21: run with -Pperf,jdk21");
+        // spring.threads.virtual.enabled is silently ignored where unsupported; make sure Tomcat really switched
+        Executor requestExecutor = ((TomcatWebServer) webServerContext.getWebServer())
+                .getTomcat().getConnector().getProtocolHandler().getExecutor();
+        assertThat(requestExecutor).isInstanceOf(virtualThreads ? VirtualThreadExecutor.class : ThreadPoolExecutor.class);
+
+        String label = (virtualThreads ? "virtual" : "platform") + (gated ? "-gated" : "");
+        UUID agencyId = createUser("AGENCY");
+        String agencyToken = tokenFor(agencyId, "AGENCY");
+        UUID auditionId = createOpenAudition(agencyId);
+        for (int i = 0; i < 200; i++) {
+            createOpenAudition(agencyId);
+        }
+        jdbc.update("""
+                INSERT INTO public.users (id, email, password_hash, role)
+                SELECT public.uuid_generate_v7(), 'load-' || g || '-' || ? || '@test.local', 'x', 'APPLICANT'
+                FROM generate_series(1, ?) g
+                """, label, APPLICANTS);
+        List<String> applicantTokens = jdbc.queryForList(
+                        "SELECT id FROM public.users WHERE email LIKE ?", UUID.class, "load-%-" + label + "@test.local")
+                .stream().map(id -> tokenFor(id, "APPLICANT")).toList();
+        AtomicInteger nextApplicant = new AtomicInteger();
+
+        HttpRequest list = request("/auditions?limit=20", agencyToken).GET().build();
+        IntFunction<HttpRequest> apply = n -> request("/auditions/" + auditionId + "/apply",
+                applicantTokens.get(n % applicantTokens.size())).POST(HttpRequest.BodyPublishers.noBody()).build();
+
+        // both endpoints, so neither measurement window includes JIT warm-up
+        run(WARMUP, i -> list);
+        run(WARMUP, i -> apply.apply(nextApplicant.getAndIncrement()));
+        Report listReport = run(MEASURE, i -> list);
+        Report applyReport = run(MEASURE, i -> apply.apply(nextApplicant.getAndIncrement()));
+
+        double rejected = meterRegistry.find("db.connection.gate.rejected").counters().stream()
+                .mapToDouble(Counter::count).sum();
+        String mode = "threads=" + (virtualThreads ? "virtual" : "platform") + " gate=" + (gated ? "on" : "off");
+        log("GET /api/auditions?limit=20", mode, listReport);
+        log("POST /api/auditions/{id}/apply", mode, applyReport);
+        log.info("[LoadBenchmark] {} gate rejections={}", mode, (long) rejected);
+
+        // timeouts surface as 503 (gate or pool), never as a 500
+        assertThat(listReport.statuses()).containsKey(200);
+        assertThat(listReport.statuses().keySet()).isSubsetOf(200, 503);
+        assertThat(applyReport.statuses().keySet()).isSubsetOf(201, 409, 503);
+    }
+
+    private Report run(Duration duration, IntFunction<HttpRequest> requests) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        ExecutorService pool = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<long[]>> clients = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            for (int c = 0; c < CLIENTS; c++) {
+                clients.add(pool.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int n = 0;
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        int status = client.send(requests.apply(n), HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (n == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, n * 2);
+                        }
+                        latencies[n++] = System.nanoTime() - sent;
+                        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+                    }
+                    return Arrays.copyOf(latencies, n);
+                }));
+            }
+            long[] all = new long[0];
+            for (Future<long[]> c : clients) {
+                long[] latencies = c.get();
+                int offset = all.length;
+                all = Arrays.copyOf(all, offset + latencies.length);
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            Arrays.sort(all);
+            Map<Integer, Long> counts = new TreeMap<>();
+            statuses.forEach((status, count) -> counts.put(status, count.sum()));
+            return new Report(all.length / seconds, percentileMs(all, 0.50), percentileMs(all, 0.99), counts);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static double percentileMs(long[] sorted, double p) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+
+    private static void log(String endpoint, String mode, Report r) {
+        log.info("[LoadBenchmark] {} {}: {} req/s, p50 {} ms, p99 {} ms, statuses {}",
+                mode, endpoint, Math.round(r.requestsPerSecond()),
+                String.format("%.1f", r.p50Ms()), String.format("%.1f", r.p99Ms()), r.statuses());
+    }
+}
@@ -0,0 +1,7 @@
+package com.audition.platform.infra;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {LoadBenchmark.POOL_SIZE, "spring.threads.virtual.enabled=false", "app.datasource.gate.enabled=true"})
+class PlatformThreadsGatedBenchmarkTest extends LoadBenchmark {
+}
@@ -0,0 +1,104 @@
+package com.audition.platform.infra;
+
+import com.audition.platform.IntegrationTest;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against two PostgreSQL instances, the second wired up as the read replica. Both get the schema
+ * but no replication, so a row present in both with a different title shows which one served a read.
+ * {@code GET /auditions/my} is a read-only transaction that queries the table (no second-level cache
+ * lookup); {@code PATCH /auditions/{id}} is a write.
+ */
+@TestPropertySource(properties = {
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.sticky-window=" + ReadReplicaRoutingTest.STICKY_WINDOW_MS + "ms"})
+class ReadReplicaRoutingTest extends IntegrationTest {
+
+    static final long STICKY_WINDOW_MS = 2000;
+
+    private static final EmbeddedPostgres REPLICA = startReplica();
+
+    private final JdbcTemplate replica = new JdbcTemplate(REPLICA.getPostgresDatabase());
+
+    @DynamicPropertySource
+    static void replicaDatasource(DynamicPropertyRegistry registry) {
+        registry.add("app.datasource.replica.url", () -> REPLICA.getJdbcUrl("postgres", "postgres") + "&currentSchema=public");
+        registry.add("app.datasource.replica.username", () -> "postgres");
+        registry.add("app.datasource.replica.password", () -> "");
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplicaExceptRightAfterTheUsersOwnWrite() throws Exception {
+        UUID writer = createUserOnBoth("AGENCY");
+        UUID bystander = createUserOnBoth("AGENCY");
+        String writerToken = tokenFor(writer, "AGENCY");
+        String bystanderToken = tokenFor(bystander, "AGENCY");
+        UUID edited = createAuditionOnBoth(writer);
+        createAuditionOnBoth(bystander);
+
+        assertThat(myAuditions(writerToken)).contains("replica copy").doesNotContain("primary copy");
+        assertThat(myAuditions(bystanderToken)).contains("replica copy").doesNotContain("primary copy");
+
+        HttpResponse<String> patch = http.send(request("/auditions/" + edited, writerToken)
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"description\":\"edited\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(patch.statusCode()).isEqualTo(200);
+        String sql = "SELECT description FROM public.auditions WHERE id = ?";
+        assertThat(jdbc.queryForObject(sql, String.class, edited)).isEqualTo("edited");
+        assertThat(replica.queryForObject(sql, String.class, edited)).isNull();
+
+        // inside the sticky window only the writer's reads move to the primary
+        assertThat(myAuditions(writerToken)).contains("primary copy").doesNotContain("replica copy");
+        assertThat(myAuditions(bystanderToken)).contains("replica copy").doesNotContain("primary copy");
+
+        Thread.sleep(STICKY_WINDOW_MS + 500);
+        assertThat(myAuditions(writerToken)).contains("replica copy").doesNotContain("primary copy");
+    }
+
+    private String myAuditions(String token) throws Exception {
+        HttpResponse<String> response = http.send(request("/auditions/my", token).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response.body();
+    }
+
+    private UUID createUserOnBoth(String role) {
+        UUID id = createUser(role);
+        String email = jdbc.queryForObject("SELECT email FROM public.users WHERE id = ?", String.class, id);
+        replica.update("INSERT INTO public.users (id, email, password_hash, role) VALUES (?, ?, 'x', ?)", id, email, role);
+        return id;
+    }
+
+    private UUID createAuditionOnBoth(UUID ownerId) {
+        UUID id = createOpenAudition(ownerId);
+        jdbc.update("UPDATE public.auditions SET title = 'primary copy' WHERE id = ?", id);
+        replica.update("INSERT INTO public.auditions (id, owner_id, title, status) VALUES (?, ?, 'replica copy', 'OPEN')",
+                id, ownerId);
+        return id;
+    }
+
+    private static EmbeddedPostgres startReplica() {
+        EmbeddedPostgres postgres = startPostgres();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .locations("classpath:db/migration")
+                .schemas("public")
+                .load()
+                .migrate();
+        return postgres;
+    }
+}
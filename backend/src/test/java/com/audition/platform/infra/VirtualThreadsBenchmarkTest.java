@@ -0,0 +1,8 @@
+package com.audition.platform.infra;
+
+import org.springframework.test.context.TestPropertySource;
+
+/** Virtual threads with their default of a gated pool; needs {@code -Pperf,jdk21}. */
+@TestPropertySource(properties = {LoadBenchmark.POOL_SIZE, "spring.threads.virtual.enabled=true"})
+class VirtualThreadsBenchmarkTest extends LoadBenchmark {
+}
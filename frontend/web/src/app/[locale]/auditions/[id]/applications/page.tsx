@@ -1,6 +1,6 @@
 'use client'
 
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query'
+import { useQuery, useInfiniteQuery, useMutation, useQueryClient } from '@tanstack/react-query'
 import { auditionApi } from '../../../../../lib/api/auditions'
 import { applicationApi } from '../../../../../lib/api/applications'
 import { useParams, useRouter } from 'next/navigation'
@@ -8,6 +8,7 @@ import { format } from 'date-fns'
 import { ko } from 'date-fns/locale'
 import { Link } from '../../../../../i18n.config'
 import { useTranslations } from 'next-intl'
+import LoadMoreButton from '../../../../../components/common/LoadMoreButton'
 
 export default function AuditionApplicationsPage() {
   const params = useParams()
@@ -22,11 +23,21 @@ export default function AuditionApplicationsPage() {
     enabled: !!auditionId,
   })
 
-  const { data: applications, isLoading: appLoading, error } = useQuery({
+  const {
+    data: applicationPages,
+    isLoading: appLoading,
+    error,
+    hasNextPage,
+    isFetchingNextPage,
+    fetchNextPage,
+  } = useInfiniteQuery({
     queryKey: ['applications', auditionId],
-    queryFn: () => applicationApi.listByAudition(auditionId),
+    queryFn: ({ pageParam }) => applicationApi.listByAudition(auditionId, pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
     enabled: !!auditionId,
   })
+  const applications = applicationPages?.pages.flatMap((page) => page.items) ?? []
 
   const acceptMutation = useMutation({
     mutationFn: (applicationId: string) => applicationApi.accept(applicationId),
@@ -69,7 +80,7 @@ export default function AuditionApplicationsPage() {
         <h1 className="text-2xl font-bold mb-2">{audition.title}</h1>
         <p className="text-gray-600 mb-8">지원자 목록</p>
 
-        {!applications || applications.length === 0 ? (
+        {applications.length === 0 ? (
           <div className="bg-white rounded-lg shadow p-8 text-center text-gray-500">
             아직 지원자가 없습니다.
           </div>
@@ -119,6 +130,7 @@ export default function AuditionApplicationsPage() {
             ))}
           </ul>
         )}
+        <LoadMoreButton hasNextPage={hasNextPage} isFetchingNextPage={isFetchingNextPage} onClick={() => fetchNextPage()} />
       </div>
     </div>
   )
@@ -1,18 +1,22 @@
 'use client'
 
-import { useQuery } from '@tanstack/react-query'
+import { useInfiniteQuery } from '@tanstack/react-query'
 import { applicationApi } from '../../../../lib/api/applications'
 import { format } from 'date-fns'
 import { ko } from 'date-fns/locale'
 import { Link } from '../../../../i18n.config'
 import { useTranslations } from 'next-intl'
+import LoadMoreButton from '../../../../components/common/LoadMoreButton'
 
 export default function DashboardApplicationsPage() {
   const t = useTranslations('common')
-  const { data: applications, isLoading, error } = useQuery({
+  const { data, isLoading, error, hasNextPage, isFetchingNextPage, fetchNextPage } = useInfiniteQuery({
     queryKey: ['myApplications'],
-    queryFn: () => applicationApi.listMy(),
+    queryFn: ({ pageParam }) => applicationApi.listMy(pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
   })
+  const applications = data?.pages.flatMap((page) => page.items) ?? []
 
   if (isLoading) {
     return (
@@ -34,7 +38,7 @@ export default function DashboardApplicationsPage() {
     <div className="min-h-screen bg-gray-50 p-4 md:p-8">
       <div className="max-w-4xl mx-auto">
         <h1 className="text-2xl font-bold mb-8">내 지원 목록</h1>
-        {!applications || applications.length === 0 ? (
+        {applications.length === 0 ? (
           <div className="bg-white rounded-lg shadow p-8 text-center text-gray-500">
             지원한 오디션이 없습니다.{' '}
             <Link href="/auditions" className="text-primary-600 hover:underline">
@@ -74,6 +78,7 @@ export default function DashboardApplicationsPage() {
             ))}
           </ul>
         )}
+        <LoadMoreButton hasNextPage={hasNextPage} isFetchingNextPage={isFetchingNextPage} onClick={() => fetchNextPage()} />
       </div>
     </div>
   )
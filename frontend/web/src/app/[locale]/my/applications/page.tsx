@@ -1,16 +1,20 @@
 'use client'
 
-import { useQuery } from '@tanstack/react-query'
+import { useInfiniteQuery } from '@tanstack/react-query'
 import { useTranslations } from 'next-intl'
 import { Link } from '../../../../i18n.config'
 import { applicationApi } from '../../../../lib/api/applications'
+import LoadMoreButton from '../../../../components/common/LoadMoreButton'
 
 export default function MyApplicationsPage() {
   const t = useTranslations('common')
-  const { data, isLoading, error } = useQuery({
+  const { data, isLoading, error, hasNextPage, isFetchingNextPage, fetchNextPage } = useInfiniteQuery({
     queryKey: ['my-applications'],
-    queryFn: () => applicationApi.listMy(),
+    queryFn: ({ pageParam }) => applicationApi.listMy(pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
   })
+  const applications = data?.pages.flatMap((page) => page.items) ?? []
 
   if (isLoading) return <div className="min-h-screen flex items-center justify-center">{t('loading')}</div>
   if (error) return <div className="min-h-screen flex items-center justify-center text-red-500">{t('error')}</div>
@@ -21,7 +25,7 @@ export default function MyApplicationsPage() {
         <h1 className="text-2xl font-bold mb-4">내 지원서</h1>
         <div className="bg-white rounded-lg shadow overflow-hidden">
           <ul>
-            {(data ?? []).map((app) => (
+            {applications.map((app) => (
               <li key={app.id} className="border-b p-4 flex items-center justify-between">
                 <div>
                   <p className="font-semibold">{app.auditionTitle ?? app.auditionId}</p>
@@ -33,9 +37,10 @@ export default function MyApplicationsPage() {
                 </div>
               </li>
             ))}
-            {(data ?? []).length === 0 && <li className="p-6 text-center text-gray-500">지원 내역이 없습니다.</li>}
+            {applications.length === 0 && <li className="p-6 text-center text-gray-500">지원 내역이 없습니다.</li>}
           </ul>
         </div>
+        <LoadMoreButton hasNextPage={hasNextPage} isFetchingNextPage={isFetchingNextPage} onClick={() => fetchNextPage()} />
       </div>
     </div>
   )
@@ -1,11 +1,12 @@
 'use client'
 
-import { useMutation, useQuery, useQueryClient } from '@tanstack/react-query'
+import { useInfiniteQuery, useMutation, useQuery, useQueryClient } from '@tanstack/react-query'
 import { useParams } from 'next/navigation'
 import { useTranslations } from 'next-intl'
 import { Link } from '../../../../../../i18n.config'
 import { applicationApi } from '../../../../../../lib/api/applications'
 import { auditionApi } from '../../../../../../lib/api/auditions'
+import LoadMoreButton from '../../../../../../components/common/LoadMoreButton'
 
 function statusLabel(status: string) {
   if (status === 'SUBMITTED') return '제출'
@@ -26,11 +27,14 @@ export default function MyAuditionApplicationsPage() {
     queryFn: () => auditionApi.getById(id),
     enabled: !!id,
   })
-  const applicationsQuery = useQuery({
+  const applicationsQuery = useInfiniteQuery({
     queryKey: ['my-audition-applications', id],
-    queryFn: () => applicationApi.listByAudition(id),
+    queryFn: ({ pageParam }) => applicationApi.listByAudition(id, pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
     enabled: !!id,
   })
+  const applications = applicationsQuery.data?.pages.flatMap((page) => page.items) ?? []
 
   const reviewedMutation = useMutation({
     mutationFn: (applicationId: string) => applicationApi.markReviewed(applicationId),
@@ -72,7 +76,7 @@ export default function MyAuditionApplicationsPage() {
               </tr>
             </thead>
             <tbody>
-              {(applicationsQuery.data ?? []).map((app) => (
+              {applications.map((app) => (
                 <tr key={app.id} className="border-t">
                   <td className="p-3">{app.applicantEmail ?? app.applicantId}</td>
                   <td className="p-3">{statusLabel(app.status)}</td>
@@ -84,7 +88,7 @@ export default function MyAuditionApplicationsPage() {
                   </td>
                 </tr>
               ))}
-              {(applicationsQuery.data ?? []).length === 0 && (
+              {applications.length === 0 && (
                 <tr>
                   <td className="p-6 text-center text-gray-500" colSpan={4}>지원자가 없습니다.</td>
                 </tr>
@@ -92,6 +96,11 @@ export default function MyAuditionApplicationsPage() {
             </tbody>
           </table>
         </div>
+        <LoadMoreButton
+          hasNextPage={applicationsQuery.hasNextPage}
+          isFetchingNextPage={applicationsQuery.isFetchingNextPage}
+          onClick={() => applicationsQuery.fetchNextPage()}
+        />
       </div>
     </div>
   )
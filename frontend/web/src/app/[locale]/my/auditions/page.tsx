@@ -2,11 +2,12 @@
 
 import { useState, useEffect } from 'react'
 import { useRouter } from '../../../../i18n.config'
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query'
+import { useInfiniteQuery, useMutation, useQueryClient } from '@tanstack/react-query'
 import { auditionApi, type AuditionResponse } from '../../../../lib/api/auditions'
 import { authApi } from '../../../../lib/api/auth'
 import { useTranslations } from 'next-intl'
 import Link from 'next/link'
+import LoadMoreButton from '../../../../components/common/LoadMoreButton'
 
 export default function MyAuditionsPage() {
   const router = useRouter()
@@ -14,7 +15,6 @@ export default function MyAuditionsPage() {
   const queryClient = useQueryClient()
   const [isCheckingAuth, setIsCheckingAuth] = useState(true)
   const [userType, setUserType] = useState<'APPLICANT' | 'BUSINESS' | null>(null)
-  const [page, setPage] = useState(0)
 
   useEffect(() => {
     const token = authApi.getToken()
@@ -29,11 +29,14 @@ export default function MyAuditionsPage() {
     setIsCheckingAuth(false)
   }, [router])
 
-  const { data: auditions, isLoading } = useQuery({
-    queryKey: ['myAuditions', page],
-    queryFn: () => auditionApi.getMyAuditions({ page, size: 20 }),
+  const { data, isLoading, hasNextPage, isFetchingNextPage, fetchNextPage } = useInfiniteQuery({
+    queryKey: ['myAuditions'],
+    queryFn: ({ pageParam }) => auditionApi.getMyAuditions(pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
     enabled: userType === 'BUSINESS',
   })
+  const auditions = data?.pages.flatMap((page) => page.items) ?? []
 
   const deleteMutation = useMutation({
     mutationFn: (id: string) => auditionApi.deleteAudition(id),
@@ -126,9 +129,9 @@ export default function MyAuditionsPage() {
           <div className="text-center py-12">
             <div className="text-xl">{t('loading')}</div>
           </div>
-        ) : auditions && auditions.content.length > 0 ? (
+        ) : auditions.length > 0 ? (
           <div className="space-y-4">
-            {auditions.content.map((audition: AuditionResponse) => (
+            {auditions.map((audition: AuditionResponse) => (
               <div
                 key={audition.id}
                 className="bg-white rounded-lg shadow-lg p-6 hover:shadow-xl transition-shadow"
@@ -179,28 +182,11 @@ export default function MyAuditionsPage() {
               </div>
             ))}
 
-            {/* 페이지네이션 */}
-            {auditions.totalPages > 1 && (
-              <div className="flex justify-center gap-2 mt-8">
-                <button
-                  onClick={() => setPage((p) => Math.max(0, p - 1))}
-                  disabled={page === 0}
-                  className="px-4 py-2 border rounded-lg disabled:opacity-50 disabled:cursor-not-allowed"
-                >
-                  이전
-                </button>
-                <span className="px-4 py-2">
-                  {page + 1} / {auditions.totalPages}
-                </span>
-                <button
-                  onClick={() => setPage((p) => Math.min(auditions.totalPages - 1, p + 1))}
-                  disabled={page >= auditions.totalPages - 1}
-                  className="px-4 py-2 border rounded-lg disabled:opacity-50 disabled:cursor-not-allowed"
-                >
-                  다음
-                </button>
-              </div>
-            )}
+            <LoadMoreButton
+              hasNextPage={hasNextPage}
+              isFetchingNextPage={isFetchingNextPage}
+              onClick={() => fetchNextPage()}
+            />
           </div>
         ) : (
           <div className="bg-white rounded-lg shadow-lg p-12 text-center">
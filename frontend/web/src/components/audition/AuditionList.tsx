@@ -1,16 +1,20 @@
 'use client'
 
-import { useQuery } from '@tanstack/react-query'
+import { useInfiniteQuery } from '@tanstack/react-query'
 import { auditionApi, type AuditionResponse } from '../../lib/api/auditions'
 import AuditionCard from './AuditionCard'
 import LoadingSpinner from '../common/LoadingSpinner'
 import ErrorMessage from '../common/ErrorMessage'
+import LoadMoreButton from '../common/LoadMoreButton'
 
 export default function AuditionList() {
-  const { data, isLoading, error } = useQuery({
+  const { data, isLoading, error, hasNextPage, isFetchingNextPage, fetchNextPage } = useInfiniteQuery({
     queryKey: ['auditions'],
-    queryFn: () => auditionApi.listOpen(),
+    queryFn: ({ pageParam }) => auditionApi.listOpen(pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
   })
+  const auditions = data?.pages.flatMap((page) => page.items) ?? []
 
   if (isLoading) {
     return <LoadingSpinner />
@@ -20,7 +24,7 @@ export default function AuditionList() {
     return <ErrorMessage message="오디션 목록을 불러오는데 실패했습니다." />
   }
 
-  if (!data || data.length === 0) {
+  if (auditions.length === 0) {
     return (
       <div className="text-center py-12">
         <p className="text-gray-500">등록된 오디션이 없습니다</p>
@@ -29,10 +33,13 @@ export default function AuditionList() {
   }
 
   return (
-    <div className="grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 gap-6">
-      {data.map((audition: AuditionResponse) => (
-        <AuditionCard key={audition.id} audition={audition} />
-      ))}
+    <div>
+      <div className="grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 gap-6">
+        {auditions.map((audition: AuditionResponse) => (
+          <AuditionCard key={audition.id} audition={audition} />
+        ))}
+      </div>
+      <LoadMoreButton hasNextPage={hasNextPage} isFetchingNextPage={isFetchingNextPage} onClick={() => fetchNextPage()} />
     </div>
   )
 }
@@ -0,0 +1,20 @@
+interface LoadMoreButtonProps {
+  hasNextPage: boolean
+  isFetchingNextPage: boolean
+  onClick: () => void
+}
+
+export default function LoadMoreButton({ hasNextPage, isFetchingNextPage, onClick }: LoadMoreButtonProps) {
+  if (!hasNextPage) return null
+  return (
+    <div className="flex justify-center mt-6">
+      <button
+        onClick={onClick}
+        disabled={isFetchingNextPage}
+        className="px-6 py-2 border rounded-lg bg-white hover:bg-gray-50 disabled:opacity-50 disabled:cursor-not-allowed"
+      >
+        {isFetchingNextPage ? '불러오는 중...' : '더 보기'}
+      </button>
+    </div>
+  )
+}
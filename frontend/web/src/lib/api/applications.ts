@@ -1,4 +1,4 @@
-import { apiClient } from './client'
+import { apiClient, fetchPage, type CursorPage } from './client'
 
 export interface ApplicationResponse {
   id: string
@@ -16,9 +16,8 @@ export interface ApplicationResponseWithAudition extends ApplicationResponse {
 }
 
 export const applicationApi = {
-  listMy: async (): Promise<ApplicationResponseWithAudition[]> => {
-    const { data } = await apiClient.get<ApplicationResponseWithAudition[]>('/applications/my')
-    return data
+  listMy: async (cursor?: string): Promise<CursorPage<ApplicationResponseWithAudition>> => {
+    return fetchPage<ApplicationResponseWithAudition>('/applications/my', {}, cursor)
   },
 
   apply: async (auditionId: string): Promise<ApplicationResponse> => {
@@ -26,9 +25,8 @@ export const applicationApi = {
     return data
   },
 
-  listByAudition: async (auditionId: string): Promise<ApplicationResponse[]> => {
-    const { data } = await apiClient.get<ApplicationResponse[]>(`/auditions/${auditionId}/applications`)
-    return data
+  listByAudition: async (auditionId: string, cursor?: string): Promise<CursorPage<ApplicationResponse>> => {
+    return fetchPage<ApplicationResponse>(`/auditions/${auditionId}/applications`, {}, cursor)
   },
 
   getById: async (applicationId: string): Promise<ApplicationResponseWithAudition> => {
@@ -1,4 +1,4 @@
-import { apiClient } from './client'
+import { apiClient, fetchPage, type CursorPage } from './client'
 
 export interface AuditionResponse {
   id: string
@@ -13,10 +13,23 @@ export interface AuditionResponse {
   category?: string | null
 }
 
+export interface AuditionSearchResult extends AuditionResponse {
+  /** HTML 조각: 원문은 이스케이프되어 있고 태그는 매칭된 단어를 감싼 <mark>…</mark>뿐임 */
+  snippet: string | null
+}
+
 export const auditionApi = {
-  listOpen: async (): Promise<AuditionResponse[]> => {
-    const { data } = await apiClient.get<AuditionResponse[]>('/auditions', { params: { status: 'OPEN' } })
-    return data
+  // 첫 페이지는 서버의 미리 직렬화된 스냅샷으로 응답됨 (limit 없이, 필터 없이 요청해야 함)
+  listOpen: async (cursor?: string): Promise<CursorPage<AuditionResponse>> => {
+    return fetchPage<AuditionResponse>('/auditions', { status: 'OPEN' }, cursor, null)
+  },
+
+  search: async (
+    q: string,
+    params: { countryCode?: string; category?: string; limit?: number } = {},
+    cursor?: string
+  ): Promise<CursorPage<AuditionSearchResult>> => {
+    return fetchPage<AuditionSearchResult>('/auditions/search', { ...params, q }, cursor)
   },
 
   getById: async (id: string): Promise<AuditionResponse> => {
@@ -36,10 +49,8 @@ export const auditionApi = {
     return data
   },
 
-  getMyAuditions: async (_params: { page?: number; size?: number } = {}): Promise<{ content: AuditionResponse[]; totalPages: number }> => {
-    const { data } = await apiClient.get<AuditionResponse[]>('/auditions/my')
-    const content = data ?? []
-    return { content, totalPages: Math.max(1, Math.ceil(content.length / 20)) }
+  getMyAuditions: async (cursor?: string): Promise<CursorPage<AuditionResponse>> => {
+    return fetchPage<AuditionResponse>('/auditions/my', {}, cursor)
   },
 
   update: async (
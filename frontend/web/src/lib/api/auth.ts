@@ -15,6 +15,7 @@ export interface AuthResponse {
   token: string
   role: string
   userId: string
+  refreshToken?: string
   email?: string
 }
 
@@ -33,6 +34,9 @@ export const authApi = {
       localStorage.setItem('token', response.token)
       localStorage.setItem('accessToken', response.token)
       localStorage.setItem('auth_token', response.token)
+      if (response.refreshToken) {
+        localStorage.setItem('refreshToken', response.refreshToken)
+      }
       localStorage.setItem('userRole', response.role)
       localStorage.setItem('userId', response.userId)
       window.dispatchEvent(new Event('auth-change'))
@@ -46,6 +50,9 @@ export const authApi = {
       localStorage.setItem('token', response.token)
       localStorage.setItem('accessToken', response.token)
       localStorage.setItem('auth_token', response.token)
+      if (response.refreshToken) {
+        localStorage.setItem('refreshToken', response.refreshToken)
+      }
       localStorage.setItem('userRole', response.role)
       localStorage.setItem('userId', response.userId)
       window.dispatchEvent(new Event('auth-change'))
@@ -60,6 +67,11 @@ export const authApi = {
 
   logout: () => {
     if (typeof window !== 'undefined') {
+      const refreshToken = localStorage.getItem('refreshToken')
+      if (refreshToken) {
+        apiClient.post('/auth/logout', { refreshToken }).catch(() => undefined)
+      }
+      localStorage.removeItem('refreshToken')
       localStorage.removeItem('accessToken')
       localStorage.removeItem('auth_token')
       localStorage.removeItem('token')
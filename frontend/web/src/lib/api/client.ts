@@ -86,6 +86,21 @@ apiClient.interceptors.response.use(
     }
     
     if (error.response?.status === 401) {
+      // access token 만료 시 refresh token으로 1회 재발급 후 재시도
+      const original = error.config as (InternalAxiosRequestConfig & { _retried?: boolean }) | undefined
+      const refreshToken = typeof window !== 'undefined' ? localStorage.getItem('refreshToken') : null
+      if (original && !original._retried && refreshToken && !original.url?.startsWith('/auth/')) {
+        original._retried = true
+        return refreshAccessToken(refreshToken)
+          .then((token) => {
+            original.headers.Authorization = `Bearer ${token}`
+            return apiClient(original)
+          })
+          .catch(() => {
+            window.location.href = '/login'
+            return Promise.reject(error)
+          })
+      }
       // 인증 실패 시 로그인 페이지로 리다이렉트
       if (typeof window !== 'undefined') {
         window.location.href = '/login'
@@ -94,3 +109,50 @@ apiClient.interceptors.response.use(
     return Promise.reject(error)
   }
 )
+
+// 동시에 여러 요청이 401을 받아도 refresh는 한 번만 수행
+let refreshInFlight: Promise<string> | null = null
+
+function refreshAccessToken(refreshToken: string): Promise<string> {
+  if (!refreshInFlight) {
+    refreshInFlight = axios
+      .post(`${API_BASE_URL}/api/auth/refresh`, { refreshToken }, { timeout: 30000 })
+      .then(({ data }) => {
+        localStorage.setItem('token', data.token)
+        localStorage.setItem('accessToken', data.token)
+        localStorage.setItem('auth_token', data.token)
+        if (data.refreshToken) {
+          localStorage.setItem('refreshToken', data.refreshToken)
+        }
+        return data.token as string
+      })
+      .catch((err) => {
+        localStorage.removeItem('refreshToken')
+        throw err
+      })
+      .finally(() => {
+        refreshInFlight = null
+      })
+  }
+  return refreshInFlight
+}
+
+export const PAGE_SIZE = 20
+
+export interface CursorPage<T> {
+  items: T[]
+  nextCursor: string | null
+}
+
+// 목록 API는 keyset 페이지 단위로 응답하고 다음 페이지 커서를 X-Next-Cursor 헤더로 알려줌
+// pageSize가 null이면 limit을 보내지 않고 서버 기본 페이지 크기를 씀
+export async function fetchPage<T>(
+  url: string,
+  params: Record<string, string | number | undefined> = {},
+  cursor?: string,
+  pageSize: number | null = PAGE_SIZE
+): Promise<CursorPage<T>> {
+  const limit = pageSize ?? undefined
+  const response = await apiClient.get<T[]>(url, { params: { limit, ...params, cursor } })
+  return { items: response.data ?? [], nextCursor: response.headers['x-next-cursor'] || null }
+}